@@ -0,0 +1,80 @@
+package de.MCmoderSD.openai.benchmark;
+
+import de.MCmoderSD.openai.objects.Embedding;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmbeddingBenchmark {
+
+    // Parameters
+    @Param({"1536", "3072"})
+    private int dimension;
+
+    // Fixtures
+    private float[] vector;
+    private List<Float> boxed;
+    private Embedding first;
+    private Embedding second;
+
+    @Setup
+    public void setup() {
+        vector = vector(dimension, 1);
+        boxed = new ArrayList<>(dimension);
+        for (var value : vector) boxed.add(value);
+        first = new Embedding(vector);
+        second = new Embedding(vector(dimension, 2));
+    }
+
+    @Benchmark
+    public Embedding construct() {
+        return new Embedding(vector);
+    }
+
+    @Benchmark
+    public float[] normalize() {
+        return Embedding.normalize(first);
+    }
+
+    @Benchmark
+    public double similarity() {
+        var a = first.getUnit();
+        var b = second.getUnit();
+        var dot = 0d;
+        for (var i = 0; i < a.length; i++) dot += a[i] * b[i];
+        return dot;
+    }
+
+    @Benchmark
+    public float[] convertToFloatArray() {
+        return Embedding.convertToFloatArray(boxed);
+    }
+
+    // Random Vector
+    private static float[] vector(int dimension, long seed) {
+        var random = new Random(seed);
+        var vector = new float[dimension];
+        for (var i = 0; i < dimension; i++) vector[i] = (float) random.nextGaussian();
+        return vector;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,380 @@
+package de.MCmoderSD.openai.benchmark;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.metrics.Histogram;
+import de.MCmoderSD.openai.mock.Latency;
+import de.MCmoderSD.openai.mock.MockServer;
+import de.MCmoderSD.openai.objects.Wave;
+import de.MCmoderSD.openai.services.ChatService;
+import de.MCmoderSD.openai.services.EmbeddingService;
+import de.MCmoderSD.openai.services.ModerationService;
+import de.MCmoderSD.openai.services.SpeechService;
+import de.MCmoderSD.openai.services.TranslationService;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static de.MCmoderSD.openai.models.ChatModel.GPT_5_4_NANO;
+import static de.MCmoderSD.openai.models.EmbeddingModel.TEXT_EMBEDDING_3_SMALL;
+
+// Open-loop Load Generator, Latency is measured from the intended Send Time to avoid Coordinated Omission
+@SuppressWarnings("unused")
+public class LoadTest {
+
+    // Constants
+    private static final List<String> SERVICES = List.of("chat", "embedding", "moderation", "speech", "translation");
+    private static final String PROMPT = "Hello! How are you doing today?";
+
+    // Attributes
+    private final OpenAI openAI;
+    private final Map<String, Runnable> workloads;
+
+    // Parameters
+    private final double rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final boolean virtual;
+    private final int threads;
+    private final int maxInFlight;
+
+    // Constructor
+    public LoadTest(OpenAI openAI, double rate, Duration duration, Duration warmup, boolean virtual, int threads, int maxInFlight) {
+
+        // Set Parameters
+        this.openAI = openAI;
+        this.rate = rate;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.virtual = virtual;
+        this.threads = threads;
+        this.maxInFlight = maxInFlight;
+
+        // Init Workloads
+        workloads = new HashMap<>();
+    }
+
+    // Workload per Service, built on first Use
+    private Runnable workload(String service) {
+        return workloads.computeIfAbsent(service, key -> switch (key) {
+            case "chat" -> {
+                var chat = ChatService.builder().setModel(GPT_5_4_NANO).setLean(true).build(openAI);
+                yield () -> chat.create(PROMPT);
+            }
+            case "embedding" -> {
+                var embedding = EmbeddingService.builder().setModel(TEXT_EMBEDDING_3_SMALL).setLean(true).build(openAI);
+                yield () -> embedding.create(PROMPT);
+            }
+            case "moderation" -> {
+                var moderation = ModerationService.builder().setLean(true).build(openAI);
+                yield () -> moderation.create(PROMPT);
+            }
+            case "speech" -> {
+                var speech = SpeechService.builder().setLean(true).build(openAI);
+                yield () -> speech.create(PROMPT);
+            }
+            case "translation" -> {
+                var translation = TranslationService.builder().setLean(true).build(openAI);
+                var audio = silence(Duration.ofSeconds(5));
+                yield () -> translation.create(audio);
+            }
+            default -> throw new IllegalArgumentException("Unknown service: " + key + ", expected one of " + SERVICES);
+        });
+    }
+
+    // Run Warmup and Measurement for a Service
+    public Result run(String service) throws InterruptedException {
+        var workload = workload(service);
+        if (!warmup.isZero()) drive(service, workload, warmup);
+        return drive(service, workload, duration);
+    }
+
+    // Drive the Workload at the target Rate
+    private Result drive(String service, Runnable workload, Duration length) throws InterruptedException {
+
+        // Init Result
+        var result = new Result(service);
+        var inFlight = new AtomicInteger();
+        var interval = 1_000_000_000d / rate;
+        var total = (long) Math.floor(length.toNanos() / interval);
+        var lastCompletion = new AtomicLong();
+
+        // Snapshot Allocation and GC
+        var threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var gc = new GcRecorder();
+        var allocated = threadBean.getTotalThreadAllocatedBytes();
+
+        // Schedule Requests, the Scheduler never waits for Responses
+        var start = System.nanoTime();
+        try (var executor = executor()) {
+            for (var i = 0L; i < total; i++) {
+
+                // Wait for intended Send Time
+                var intended = start + Math.round(i * interval);
+                for (var now = System.nanoTime(); now < intended; now = System.nanoTime()) LockSupport.parkNanos(intended - now);
+
+                // Drop if the Client cannot keep up
+                if (inFlight.incrementAndGet() > maxInFlight) {
+                    inFlight.decrementAndGet();
+                    result.dropped.increment();
+                    continue;
+                }
+
+                // Send Request
+                result.sent.increment();
+                executor.execute(() -> {
+                    var begin = System.nanoTime();
+                    try {
+                        workload.run();
+                        var end = System.nanoTime();
+                        result.latency.record(end - intended);
+                        result.serviceTime.record(end - begin);
+                        result.succeeded.increment();
+                        lastCompletion.accumulateAndGet(end, Math::max);
+                    } catch (RuntimeException e) {
+                        result.failed.increment();
+                        result.errors.computeIfAbsent(e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(5, TimeUnit.MINUTES)) throw new IllegalStateException("Requests did not complete within 5 minutes");
+        } finally {
+            gc.close();
+        }
+
+        // Collect Result
+        result.elapsed = Math.max(lastCompletion.get(), start + length.toNanos()) - start;
+        result.allocated = threadBean.getTotalThreadAllocatedBytes() - allocated;
+        result.gcCount = gc.count.sum();
+        result.gcTime = gc.time.sum();
+        result.gcMax = gc.max.get();
+        return result;
+    }
+
+    // Executor per Run
+    private ExecutorService executor() {
+        return virtual ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(threads);
+    }
+
+    // Silent 16kHz Mono WAV
+    private static byte[] silence(Duration length) {
+        var sampleRate = 16000;
+        var format = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        format.putShort((short) 1).putShort((short) 1).putInt(sampleRate).putInt(sampleRate * 2).putShort((short) 2).putShort((short) 16).flip();
+        return Wave.write(format, List.of(ByteBuffer.allocate((int) (length.toSeconds() * sampleRate * 2))));
+    }
+
+    // Result of a Run
+    public static class Result {
+
+        // Attributes
+        private final String name;
+        private final Histogram latency;
+        private final Histogram serviceTime;
+        private final LongAdder sent;
+        private final LongAdder dropped;
+        private final LongAdder succeeded;
+        private final LongAdder failed;
+        private final Map<String, LongAdder> errors;
+
+        // Variables
+        private long elapsed;
+        private long allocated;
+        private long gcCount;
+        private long gcTime;
+        private long gcMax;
+
+        // Constructor
+        private Result(String name) {
+            this.name = name;
+            latency = new Histogram();
+            serviceTime = new Histogram();
+            sent = new LongAdder();
+            dropped = new LongAdder();
+            succeeded = new LongAdder();
+            failed = new LongAdder();
+            errors = new ConcurrentHashMap<>();
+        }
+
+        // Print Report
+        public String report(double rate) {
+            var completed = succeeded.sum() + failed.sum();
+            var lines = new ArrayList<String>();
+            lines.add(String.format(Locale.ROOT, "%-12s target %.1f rps, achieved %.1f rps, sent %d, ok %d, failed %d, dropped %d", name, rate, succeeded.sum() * 1e9 / elapsed, sent.sum(), succeeded.sum(), failed.sum(), dropped.sum()));
+            lines.add(String.format(Locale.ROOT, "%-12s latency  p50 %s  p90 %s  p99 %s  p99.9 %s  max %s", "", millis(latency.percentile(0.5)), millis(latency.percentile(0.9)), millis(latency.percentile(0.99)), millis(latency.percentile(0.999)), millis(latency.getMax())));
+            lines.add(String.format(Locale.ROOT, "%-12s service  p50 %s  p90 %s  p99 %s  p99.9 %s  max %s", "", millis(serviceTime.percentile(0.5)), millis(serviceTime.percentile(0.9)), millis(serviceTime.percentile(0.99)), millis(serviceTime.percentile(0.999)), millis(serviceTime.getMax())));
+            lines.add(String.format(Locale.ROOT, "%-12s alloc %.1f KiB/request, %.1f MiB/s, gc %d collections, %d ms total, %d ms max", "", completed == 0 ? 0d : allocated / 1024d / completed, allocated / 1048576d / (elapsed / 1e9), gcCount, gcTime, gcMax));
+            if (!errors.isEmpty()) lines.add(String.format(Locale.ROOT, "%-12s errors %s", "", errors));
+            return String.join("\n", lines);
+        }
+
+        // Format Nanoseconds as Milliseconds
+        private static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%8.2fms", nanos / 1e6);
+        }
+
+        // Getter
+        public String getName() {
+            return name;
+        }
+
+        public Histogram getLatency() {
+            return latency;
+        }
+
+        public Histogram getServiceTime() {
+            return serviceTime;
+        }
+
+        public long getSucceeded() {
+            return succeeded.sum();
+        }
+
+        public long getFailed() {
+            return failed.sum();
+        }
+
+        public long getDropped() {
+            return dropped.sum();
+        }
+
+        public double getThroughput() {
+            return succeeded.sum() * 1e9 / elapsed;
+        }
+
+        public double getAllocatedPerRequest() {
+            var completed = succeeded.sum() + failed.sum();
+            return completed == 0 ? 0 : (double) allocated / completed;
+        }
+    }
+
+    // Records GC Durations while open, concurrent Cycles are skipped
+    private static class GcRecorder implements AutoCloseable {
+
+        // Attributes
+        private final List<NotificationEmitter> emitters;
+        private final NotificationListener listener;
+        private final LongAdder count;
+        private final LongAdder time;
+        private final AtomicLong max;
+
+        // Constructor
+        private GcRecorder() {
+            emitters = new ArrayList<>();
+            count = new LongAdder();
+            time = new LongAdder();
+            max = new AtomicLong();
+            listener = (notification, handback) -> {
+                if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) return;
+                var info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                if (info.getGcName().contains("Cycles") || info.getGcName().contains("Concurrent")) return;
+                var millis = info.getGcInfo().getDuration();
+                count.increment();
+                time.add(millis);
+                max.accumulateAndGet(millis, Math::max);
+            };
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (!(bean instanceof NotificationEmitter emitter)) continue;
+                emitter.addNotificationListener(listener, null, null);
+                emitters.add(emitter);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (var emitter : emitters) {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (Exception e) {
+                    // Already removed
+                }
+            }
+        }
+    }
+
+    // Arguments as key=value, e.g. --service=chat --rate=200 --duration=30s --threads=virtual
+    public static void main(String[] args) throws InterruptedException {
+
+        // Parse Arguments
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            var split = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(split[0], split.length > 1 ? split[1] : "true");
+        }
+
+        var services = options.getOrDefault("service", "all");
+        var rate = Double.parseDouble(options.getOrDefault("rate", "100"));
+        var duration = duration(options.getOrDefault("duration", "30s"));
+        var warmup = duration(options.getOrDefault("warmup", "5s"));
+        var threads = options.getOrDefault("threads", "virtual");
+        var pool = Integer.parseInt(options.getOrDefault("pool", "200"));
+        var maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        var url = options.get("url");
+        var latency = duration(options.getOrDefault("latency", "50ms"));
+        var sigma = Double.parseDouble(options.getOrDefault("sigma", "0.5"));
+
+        // Check Arguments
+        if (rate <= 0) throw new IllegalArgumentException("Rate must be positive");
+        if (!threads.equals("virtual") && !threads.equals("platform")) throw new IllegalArgumentException("Threads must be virtual or platform");
+        if (pool < 1) throw new IllegalArgumentException("Pool must be positive");
+        if (maxInFlight < 1) throw new IllegalArgumentException("Max in flight must be positive");
+
+        // Serve only, for running the Client in a separate JVM
+        if (options.containsKey("serve")) {
+            var port = Integer.parseInt(options.getOrDefault("port", "8080"));
+            var server = MockServer.builder().setPort(port).setLatency(Latency.logNormal(latency, sigma)).build();
+            System.out.println("Mock server listening on " + server.getBaseUrl());
+            new CountDownLatch(1).await();
+            return;
+        }
+
+        // Start Mock Server unless an external Endpoint is given
+        var server = url == null ? MockServer.builder().setLatency(Latency.logNormal(latency, sigma)).build() : null;
+        try {
+            var openAI = new OpenAI("sk-load-test", url == null ? server.getBaseUrl() : url);
+            var test = new LoadTest(openAI, rate, duration, warmup, threads.equals("virtual"), pool, maxInFlight);
+
+            // Print Setup
+            System.out.printf(Locale.ROOT, "Open-loop load test: %.1f rps for %ds after %ds warmup, %s threads%s, endpoint %s%n", rate, duration.toSeconds(), warmup.toSeconds(), threads, threads.equals("platform") ? " (" + pool + ")" : "", url == null ? server.getBaseUrl() + " (embedded, allocation includes the server)" : url);
+
+            // Run Services
+            for (var service : services.equals("all") ? SERVICES : List.of(services.split(","))) System.out.println(test.run(service.trim()).report(rate));
+        } finally {
+            if (server != null) server.close();
+        }
+    }
+
+    // Parse Duration like 500ms, 30s or 2m
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s")) return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("m")) return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package de.MCmoderSD.openai.benchmark;
+
+import de.MCmoderSD.openai.models.ChatModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    // Parameters
+    @Param({"gpt-5.4-nano", "GPT-5.4-Nano", "gpt-5.4-nano-2026-03-05"})
+    private String name;
+
+    @Benchmark
+    public ChatModel getModel() {
+        return ChatModel.getModel(name);
+    }
+}
@@ -0,0 +1,74 @@
+package de.MCmoderSD.openai.benchmark;
+
+import com.openai.core.ObjectMappers;
+import com.openai.models.embeddings.CreateEmbeddingResponse;
+import com.openai.models.embeddings.EmbeddingCreateParams;
+import com.openai.models.responses.Response;
+import com.openai.models.responses.ResponseCreateParams;
+
+import de.MCmoderSD.openai.mock.Payloads;
+import de.MCmoderSD.openai.prompts.ChatPrompt;
+import de.MCmoderSD.openai.prompts.EmbeddingPrompt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    // Fixtures
+    private String responseJson;
+    private String embeddingJson;
+    private ResponseCreateParams chatRequest;
+    private EmbeddingCreateParams embeddingRequest;
+    private Response response;
+    private CreateEmbeddingResponse embeddingResponse;
+
+    @Setup
+    public void setup() throws IOException {
+        responseJson = Payloads.response("gpt-5.4");
+        embeddingJson = Payloads.embedding("text-embedding-3-large", 3072);
+        chatRequest = ResponseCreateParams.builder().model("gpt-5.4-nano").input("Hello!").build();
+        embeddingRequest = EmbeddingCreateParams.builder().model("text-embedding-3-large").input("Hello!").build();
+        response = ObjectMappers.jsonMapper().readValue(responseJson, Response.class);
+        embeddingResponse = ObjectMappers.jsonMapper().readValue(embeddingJson, CreateEmbeddingResponse.class);
+    }
+
+    // Wrapper only, the SDK Response is already decoded
+    @Benchmark
+    public ChatPrompt chatPrompt() {
+        return new ChatPrompt(chatRequest, response, true);
+    }
+
+    @Benchmark
+    public EmbeddingPrompt embeddingPrompt() {
+        return new EmbeddingPrompt(embeddingRequest, embeddingResponse, true);
+    }
+
+    // JSON Decoding and Wrapper
+    @Benchmark
+    public ChatPrompt chatPromptFromJson() throws IOException {
+        return new ChatPrompt(chatRequest, ObjectMappers.jsonMapper().readValue(responseJson, Response.class), true);
+    }
+
+    @Benchmark
+    public EmbeddingPrompt embeddingPromptFromJson() throws IOException {
+        return new EmbeddingPrompt(embeddingRequest, ObjectMappers.jsonMapper().readValue(embeddingJson, CreateEmbeddingResponse.class), true);
+    }
+}
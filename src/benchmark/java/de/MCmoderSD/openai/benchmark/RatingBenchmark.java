@@ -0,0 +1,63 @@
+package de.MCmoderSD.openai.benchmark;
+
+import com.openai.core.ObjectMappers;
+import com.openai.models.moderations.Moderation;
+import com.openai.models.moderations.ModerationCreateResponse;
+
+import de.MCmoderSD.openai.mock.Payloads;
+import de.MCmoderSD.openai.objects.Rating;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static de.MCmoderSD.openai.objects.Rating.Data.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RatingBenchmark {
+
+    // Fixtures
+    private Moderation moderation;
+    private Rating rating;
+
+    @Setup
+    public void setup() throws IOException {
+        moderation = ObjectMappers.jsonMapper().readValue(Payloads.moderation("omni-moderation-latest", false), ModerationCreateResponse.class).results().getFirst();
+        rating = new Rating(moderation);
+    }
+
+    @Benchmark
+    public Rating construct() {
+        return new Rating(moderation);
+    }
+
+    @Benchmark
+    public String getDataAll() {
+        return rating.getData(ALL);
+    }
+
+    @Benchmark
+    public String getDataPositive() {
+        return rating.getData(POSITIVE);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return rating.toBytes();
+    }
+}
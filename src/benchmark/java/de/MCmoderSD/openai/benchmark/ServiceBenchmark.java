@@ -0,0 +1,71 @@
+package de.MCmoderSD.openai.benchmark;
+
+import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.mock.MockServer;
+import de.MCmoderSD.openai.prompts.ChatPrompt;
+import de.MCmoderSD.openai.prompts.EmbeddingPrompt;
+import de.MCmoderSD.openai.prompts.ModerationPrompt;
+import de.MCmoderSD.openai.services.ChatService;
+import de.MCmoderSD.openai.services.EmbeddingService;
+import de.MCmoderSD.openai.services.ModerationService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static de.MCmoderSD.openai.models.ChatModel.GPT_5_4_NANO;
+import static de.MCmoderSD.openai.models.EmbeddingModel.TEXT_EMBEDDING_3_SMALL;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    // Fixtures
+    private MockServer server;
+    private ChatService chat;
+    private EmbeddingService embedding;
+    private ModerationService moderation;
+
+    @Setup
+    public void setup() {
+        server = MockServer.builder().build();
+        var openAI = new OpenAI("sk-benchmark", server.getBaseUrl());
+        chat = ChatService.builder().setModel(GPT_5_4_NANO).setLean(true).build(openAI);
+        embedding = EmbeddingService.builder().setModel(TEXT_EMBEDDING_3_SMALL).setLean(true).build(openAI);
+        moderation = ModerationService.builder().setLean(true).build(openAI);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public ChatPrompt chat() {
+        return chat.create("Hello!");
+    }
+
+    @Benchmark
+    public EmbeddingPrompt embedding() {
+        return embedding.create("Hello!");
+    }
+
+    @Benchmark
+    public ModerationPrompt moderation() {
+        return moderation.create("Hello!");
+    }
+}
@@ -0,0 +1,47 @@
+package de.MCmoderSD.openai.mock;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface Latency {
+
+    // Sample Delay in Nanoseconds
+    long sample(ThreadLocalRandom random);
+
+    // No Delay
+    static Latency none() {
+        return random -> 0;
+    }
+
+    // Fixed Delay
+    static Latency fixed(Duration delay) {
+        check(delay);
+        var nanos = delay.toNanos();
+        return random -> nanos;
+    }
+
+    // Uniform Delay between Min and Max
+    static Latency uniform(Duration min, Duration max) {
+        check(min);
+        check(max);
+        if (max.compareTo(min) < 0) throw new IllegalArgumentException("Max must not be less than min");
+        var low = min.toNanos();
+        var high = max.toNanos();
+        return random -> low == high ? low : random.nextLong(low, high + 1);
+    }
+
+    // Log-normal Delay with Median and Shape, a realistic long Tail for Sigma around 0.5 to 1
+    static Latency logNormal(Duration median, double sigma) {
+        check(median);
+        if (sigma < 0) throw new IllegalArgumentException("Sigma must not be negative");
+        var mu = Math.log(median.toNanos());
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    // Check Duration
+    private static void check(Duration duration) {
+        if (duration == null || duration.isNegative()) throw new IllegalArgumentException("Duration must not be null or negative");
+    }
+}
@@ -0,0 +1,406 @@
+package de.MCmoderSD.openai.mock;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import de.MCmoderSD.openai.objects.Wave;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+@SuppressWarnings("unused")
+public class MockServer implements AutoCloseable {
+
+    // Endpoints
+    public static final String RESPONSES = "/v1/responses";
+    public static final String EMBEDDINGS = "/v1/embeddings";
+    public static final String MODERATIONS = "/v1/moderations";
+    public static final String SPEECH = "/v1/audio/speech";
+    public static final String TRANSLATIONS = "/v1/audio/translations";
+    public static final String TRANSCRIPTIONS = "/v1/audio/transcriptions";
+
+    // Constants
+    public static final String FLAG = "mock:flag";
+    private static final int SAMPLE_RATE = 24000;
+    private static final int UPLOAD_BYTE_RATE = 32000; // 16kHz 16-bit Mono
+    private static final Pattern MODEL = Pattern.compile("\"model\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern STREAM = Pattern.compile("\"stream\"\\s*:\\s*true");
+    private static final Pattern DIMENSIONS = Pattern.compile("\"dimensions\"\\s*:\\s*(\\d+)");
+    private static final Pattern INPUT = Pattern.compile("\"input\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern FORMAT = Pattern.compile("\"response_format\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern FIELD = Pattern.compile("name=\"(model|response_format|stream)\"\\r\\n(?:[^\\r\\n]+\\r\\n)*\\r\\n([^\\r\\n]*)");
+
+    // Attributes
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<String, LongAdder> requests;
+    private final ConcurrentHashMap<String, LongAdder> errors;
+    private final ConcurrentHashMap<String, byte[]> embeddings;
+    private final AtomicLong ids;
+
+    // Parameters
+    private final Latency latency;
+    private final double rateLimitRate;
+    private final double serverErrorRate;
+    private final Duration retryAfter;
+    private final long streamInterval;
+
+    // Constructor
+    private MockServer(int port, Latency latency, double rateLimitRate, double serverErrorRate, Duration retryAfter, Duration streamInterval) {
+
+        // Set Parameters
+        this.latency = latency;
+        this.rateLimitRate = rateLimitRate;
+        this.serverErrorRate = serverErrorRate;
+        this.retryAfter = retryAfter;
+        this.streamInterval = streamInterval.toNanos();
+
+        // Init Attributes
+        requests = new ConcurrentHashMap<>();
+        errors = new ConcurrentHashMap<>();
+        embeddings = new ConcurrentHashMap<>();
+        ids = new AtomicLong();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        // Create Server
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            executor.close();
+            throw new RuntimeException("Failed to start mock server: " + e.getMessage(), e);
+        }
+
+        // Register Endpoints
+        for (var endpoint : List.of(RESPONSES, EMBEDDINGS, MODERATIONS, SPEECH, TRANSLATIONS, TRANSCRIPTIONS)) server.createContext(endpoint, exchange -> handle(endpoint, exchange));
+
+        // Start Server
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    // Handle Request
+    private void handle(String endpoint, HttpExchange exchange) throws IOException {
+        try (exchange) {
+
+            // Read Request
+            var body = exchange.getRequestBody().readAllBytes();
+            requests.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+
+            // Check Request
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                error(endpoint, exchange, 405, Payloads.error("Method not allowed", "invalid_request_error", null));
+                return;
+            }
+            if (exchange.getRequestHeaders().getFirst("Authorization") == null) {
+                error(endpoint, exchange, 401, Payloads.error("Missing API key", "invalid_request_error", "invalid_api_key"));
+                return;
+            }
+
+            // Inject Errors
+            var random = ThreadLocalRandom.current();
+            if (rateLimitRate > 0 && random.nextDouble() < rateLimitRate) {
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(Math.max(1, retryAfter.toSeconds())));
+                exchange.getResponseHeaders().set("Retry-After-Ms", String.valueOf(retryAfter.toMillis()));
+                error(endpoint, exchange, 429, Payloads.error("Rate limit reached for requests (mock)", "requests", "rate_limit_exceeded"));
+                return;
+            }
+            if (serverErrorRate > 0 && random.nextDouble() < serverErrorRate) {
+                var status = random.nextBoolean() ? 500 : 503;
+                error(endpoint, exchange, status, Payloads.error("The server had an error while processing your request (mock)", "server_error", null));
+                return;
+            }
+
+            // Simulate Latency
+            sleep(latency.sample(random));
+
+            // Dispatch
+            exchange.getResponseHeaders().set("x-request-id", "req_mock_" + ids.incrementAndGet());
+            switch (endpoint) {
+                case RESPONSES -> responses(exchange, new String(body, StandardCharsets.UTF_8));
+                case EMBEDDINGS -> embeddings(exchange, new String(body, StandardCharsets.UTF_8));
+                case MODERATIONS -> moderations(exchange, new String(body, StandardCharsets.UTF_8));
+                case SPEECH -> speech(exchange, new String(body, StandardCharsets.UTF_8));
+                default -> audio(endpoint, exchange, body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Chat Responses
+    private void responses(HttpExchange exchange, String body) throws IOException, InterruptedException {
+
+        // Plain Response
+        var model = find(MODEL, body, "gpt-5.4");
+        if (!STREAM.matcher(body).find()) {
+            json(exchange, Payloads.response(model));
+            return;
+        }
+
+        // Streamed Response
+        var id = "resp_mock" + ids.incrementAndGet();
+        var words = Payloads.TEXT.split("(?<= )");
+        var sequence = 0;
+        var stream = sse(exchange);
+        event(stream, "response.created", "{\"type\":\"response.created\",\"sequence_number\":" + sequence++ + ",\"response\":" + Payloads.response(id, model, "in_progress", null, 12, 0) + "}");
+        for (var word : words) {
+            sleep(streamInterval);
+            event(stream, "response.output_text.delta", "{\"type\":\"response.output_text.delta\",\"item_id\":\"msg_" + id.substring(5) + "\",\"output_index\":0,\"content_index\":0,\"delta\":\"" + Payloads.escape(word) + "\",\"sequence_number\":" + sequence++ + ",\"logprobs\":[]}");
+        }
+        event(stream, "response.output_text.done", "{\"type\":\"response.output_text.done\",\"item_id\":\"msg_" + id.substring(5) + "\",\"output_index\":0,\"content_index\":0,\"text\":\"" + Payloads.escape(Payloads.TEXT) + "\",\"sequence_number\":" + sequence++ + ",\"logprobs\":[]}");
+        event(stream, "response.completed", "{\"type\":\"response.completed\",\"sequence_number\":" + sequence + ",\"response\":" + Payloads.response(id, model, "completed", Payloads.TEXT, 12, words.length) + "}");
+    }
+
+    // Embeddings, Dimension from the Request or the Model
+    private void embeddings(HttpExchange exchange, String body) throws IOException {
+        var model = find(MODEL, body, "text-embedding-3-small");
+        var requested = find(DIMENSIONS, body, null);
+        var dimension = requested != null ? Integer.parseInt(requested) : model.contains("large") ? 3072 : 1536;
+        send(exchange, 200, "application/json", embeddings.computeIfAbsent(model + ':' + dimension, key -> Payloads.embedding(model, dimension).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Moderations, flagged if the Input contains the Flag Marker
+    private void moderations(HttpExchange exchange, String body) throws IOException {
+        json(exchange, Payloads.moderation(find(MODEL, body, "omni-moderation-latest"), body.contains(FLAG)));
+    }
+
+    // Speech, Silence with a Length proportional to the Input
+    private void speech(HttpExchange exchange, String body) throws IOException {
+
+        // Calculate Length
+        var input = find(INPUT, body, "");
+        var format = find(FORMAT, body, "mp3");
+        var samples = Math.max(SAMPLE_RATE / 10, input.length() * SAMPLE_RATE / 20);
+        var data = ByteBuffer.allocate(samples * 2);
+
+        // Raw PCM
+        if (format.equals("pcm")) {
+            send(exchange, 200, "audio/pcm", data.array());
+            return;
+        }
+
+        // WAV, also served for compressed Formats
+        var header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        header.putShort((short) 1).putShort((short) 1).putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2).putShort((short) 2).putShort((short) 16).flip();
+        send(exchange, 200, format.equals("wav") ? "audio/wav" : "audio/" + format, Wave.write(header, List.of(data)));
+    }
+
+    // Translations and Transcriptions from Multipart Uploads
+    private void audio(String endpoint, HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+
+        // Extract Fields
+        var fields = new HashMap<String, String>();
+        var matcher = FIELD.matcher(new String(body, StandardCharsets.ISO_8859_1));
+        while (matcher.find()) fields.putIfAbsent(matcher.group(1), matcher.group(2));
+        var format = fields.getOrDefault("response_format", "json");
+        var duration = Math.max(1d, (double) body.length / UPLOAD_BYTE_RATE);
+
+        // Streamed Transcription
+        if (endpoint.equals(TRANSCRIPTIONS) && "true".equals(fields.get("stream"))) {
+            var stream = sse(exchange);
+            for (var word : Payloads.TEXT.split("(?<= )")) {
+                sleep(streamInterval);
+                event(stream, "transcript.text.delta", "{\"type\":\"transcript.text.delta\",\"delta\":\"" + Payloads.escape(word) + "\"}");
+            }
+            event(stream, "transcript.text.done", "{\"type\":\"transcript.text.done\",\"text\":\"" + Payloads.escape(Payloads.TEXT) + "\"}");
+            return;
+        }
+
+        // Plain or verbose JSON
+        var task = endpoint.equals(TRANSLATIONS) ? "translate" : "transcribe";
+        json(exchange, format.equals("verbose_json") ? Payloads.verbose(task, Payloads.TEXT, duration) : Payloads.transcription(Payloads.TEXT));
+    }
+
+    // Send Error
+    private void error(String endpoint, HttpExchange exchange, int status, String body) throws IOException {
+        errors.computeIfAbsent(endpoint + ':' + status, key -> new LongAdder()).increment();
+        send(exchange, status, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Send JSON
+    private static void json(HttpExchange exchange, String body) throws IOException {
+        send(exchange, 200, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Send Body
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    // Start Server-Sent Events
+    private static OutputStream sse(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        return exchange.getResponseBody();
+    }
+
+    // Write Server-Sent Event
+    private static void event(OutputStream stream, String event, String data) throws IOException {
+        stream.write(("event: " + event + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        stream.flush();
+    }
+
+    // Find first Group
+    private static String find(Pattern pattern, String body, String fallback) {
+        var matcher = pattern.matcher(body);
+        return matcher.find() ? matcher.group(1) : fallback;
+    }
+
+    // Sleep in Nanoseconds
+    private static void sleep(long nanos) throws InterruptedException {
+        if (nanos > 0) Thread.sleep(Duration.ofNanos(nanos));
+    }
+
+    // Stop Server
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    // Getter
+    public String getBaseUrl() {
+        var address = server.getAddress();
+        return String.format(Locale.ROOT, "http://%s:%d/v1", address.getHostString(), address.getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getRequests() {
+        var sum = 0L;
+        for (var adder : requests.values()) sum += adder.sum();
+        return sum;
+    }
+
+    public long getRequests(String endpoint) {
+        var adder = requests.get(endpoint);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<String, Long> getErrors() {
+        var map = new TreeMap<String, Long>();
+        errors.forEach((key, adder) -> map.put(key, adder.sum()));
+        return map;
+    }
+
+    // Static Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Builder Class
+    public static class Builder {
+
+        // Parameter
+        private int port;
+        private Latency latency;
+        private double rateLimitRate;
+        private double serverErrorRate;
+        private Duration retryAfter;
+        private Duration streamInterval;
+
+        // Constructor
+        private Builder() {
+            port = 0;
+            latency = Latency.none();
+            rateLimitRate = 0;
+            serverErrorRate = 0;
+            retryAfter = Duration.ofSeconds(1);
+            streamInterval = Duration.ofMillis(20);
+        }
+
+        // Build and start
+        public MockServer build() {
+            return new MockServer(port, latency, rateLimitRate, serverErrorRate, retryAfter, streamInterval);
+        }
+
+        // Set Port, 0 picks a free Port
+        public Builder setPort(int port) {
+
+            // Check Port
+            if (port < 0 || port > 65535) throw new IllegalArgumentException("Port must be between 0 and 65535");
+
+            // Set Port
+            this.port = port;
+            return this;
+        }
+
+        // Set Latency before the Response Headers
+        public Builder setLatency(Latency latency) {
+
+            // Check Latency
+            if (latency == null) throw new IllegalArgumentException("Latency must not be null");
+
+            // Set Latency
+            this.latency = latency;
+            return this;
+        }
+
+        // Set Ratio of Requests answered with 429
+        public Builder setRateLimitRate(double rateLimitRate) {
+
+            // Check Rate
+            if (rateLimitRate < 0 || rateLimitRate > 1) throw new IllegalArgumentException("Rate limit rate must be between 0 and 1");
+
+            // Set Rate
+            this.rateLimitRate = rateLimitRate;
+            return this;
+        }
+
+        // Set Ratio of Requests answered with 500 or 503
+        public Builder setServerErrorRate(double serverErrorRate) {
+
+            // Check Rate
+            if (serverErrorRate < 0 || serverErrorRate > 1) throw new IllegalArgumentException("Server error rate must be between 0 and 1");
+
+            // Set Rate
+            this.serverErrorRate = serverErrorRate;
+            return this;
+        }
+
+        // Set Retry-After for 429 Responses
+        public Builder setRetryAfter(Duration retryAfter) {
+
+            // Check Retry-After
+            if (retryAfter == null || retryAfter.isNegative()) throw new IllegalArgumentException("Retry-After must not be null or negative");
+
+            // Set Retry-After
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        // Set Interval between streamed Events
+        public Builder setStreamInterval(Duration streamInterval) {
+
+            // Check Interval
+            if (streamInterval == null || streamInterval.isNegative()) throw new IllegalArgumentException("Stream interval must not be null or negative");
+
+            // Set Interval
+            this.streamInterval = streamInterval;
+            return this;
+        }
+    }
+}
\ No newline at end of file
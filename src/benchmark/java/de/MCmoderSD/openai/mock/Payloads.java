@@ -0,0 +1,99 @@
+package de.MCmoderSD.openai.mock;
+
+import java.util.Locale;
+import java.util.Random;
+
+@SuppressWarnings("unused")
+public class Payloads {
+
+    // Constants
+    public static final String TEXT = "Hello! This is a mock response from the local test server.";
+
+    // Chat Response
+    public static String response(String id, String model, String status, String text, long inputTokens, long outputTokens) {
+        var now = System.currentTimeMillis() / 1000;
+        return "{\"id\":\"" + id + "\",\"object\":\"response\",\"created_at\":" + now + ",\"completed_at\":" + now
+                + ",\"status\":\"" + status + "\",\"model\":\"" + escape(model) + "\",\"output\":["
+                + (text == null ? "" : "{\"type\":\"message\",\"id\":\"msg_" + id.substring(5) + "\",\"status\":\"completed\",\"role\":\"assistant\",\"content\":[{\"type\":\"output_text\",\"text\":\"" + escape(text) + "\",\"annotations\":[]}]}")
+                + "],\"parallel_tool_calls\":true,\"tool_choice\":\"auto\",\"tools\":[],\"temperature\":1.0,\"top_p\":1.0,"
+                + "\"usage\":{\"input_tokens\":" + inputTokens + ",\"input_tokens_details\":{\"cached_tokens\":0},\"output_tokens\":" + outputTokens
+                + ",\"output_tokens_details\":{\"reasoning_tokens\":0},\"total_tokens\":" + (inputTokens + outputTokens) + "},"
+                + "\"error\":null,\"incomplete_details\":null,\"instructions\":null,\"metadata\":{}}";
+    }
+
+    public static String response(String model) {
+        return response("resp_mock", model, "completed", TEXT, 12, 14);
+    }
+
+    // Moderation Response
+    public static String moderation(String model, boolean flagged) {
+        var categories = new String[] {"harassment", "harassment/threatening", "hate", "hate/threatening", "illicit", "illicit/violent", "self-harm", "self-harm/instructions", "self-harm/intent", "sexual", "sexual/minors", "violence", "violence/graphic"};
+        var flags = new StringBuilder();
+        var scores = new StringBuilder();
+        var types = new StringBuilder();
+        for (var i = 0; i < categories.length; i++) {
+            var separator = i == 0 ? "" : ",";
+            var hit = flagged && i == categories.length - 2;
+            flags.append(separator).append('"').append(categories[i]).append("\":").append(hit);
+            scores.append(separator).append('"').append(categories[i]).append("\":").append(hit ? "0.91" : "0.0004");
+            types.append(separator).append('"').append(categories[i]).append("\":[\"text\"]");
+        }
+        return "{\"id\":\"modr_mock\",\"model\":\"" + escape(model) + "\",\"results\":[{\"flagged\":" + flagged
+                + ",\"categories\":{" + flags + "},\"category_scores\":{" + scores + "},\"category_applied_input_types\":{" + types + "}}]}";
+    }
+
+    // Embedding Response with a deterministic Vector
+    public static String embedding(String model, int dimension) {
+        var random = new Random(dimension);
+        var json = new StringBuilder(dimension * 12 + 256);
+        json.append("{\"object\":\"list\",\"data\":[{\"object\":\"embedding\",\"index\":0,\"embedding\":[");
+        for (var i = 0; i < dimension; i++) {
+            if (i > 0) json.append(',');
+            json.append(String.format(Locale.ROOT, "%.6f", random.nextGaussian() / Math.sqrt(dimension)));
+        }
+        json.append("]}],\"model\":\"").append(escape(model)).append("\",\"usage\":{\"prompt_tokens\":3,\"total_tokens\":3}}");
+        return json.toString();
+    }
+
+    // Verbose Translation or Transcription with one Segment per Sentence
+    public static String verbose(String task, String text, double duration) {
+        var sentences = text.split("(?<=[.!?])\\s+");
+        var step = duration / sentences.length;
+        var segments = new StringBuilder();
+        for (var i = 0; i < sentences.length; i++) {
+            if (i > 0) segments.append(',');
+            segments.append(String.format(Locale.ROOT, "{\"id\":%d,\"seek\":0,\"start\":%.2f,\"end\":%.2f,\"text\":\"%s\",\"tokens\":[50364,50464],\"temperature\":0.0,\"avg_logprob\":-0.2,\"compression_ratio\":1.2,\"no_speech_prob\":0.01}", i, i * step, (i + 1) * step, escape(sentences[i])));
+        }
+        return String.format(Locale.ROOT, "{\"task\":\"%s\",\"language\":\"english\",\"duration\":%.2f,\"text\":\"%s\",\"segments\":[%s]}", task, duration, escape(text), segments);
+    }
+
+    // Plain Transcription
+    public static String transcription(String text) {
+        return "{\"text\":\"" + escape(text) + "\"}";
+    }
+
+    // API Error
+    public static String error(String message, String type, String code) {
+        return "{\"error\":{\"message\":\"" + escape(message) + "\",\"type\":\"" + type + "\",\"param\":null,\"code\":" + (code == null ? "null" : "\"" + code + "\"") + "}}";
+    }
+
+    // Escape JSON String
+    public static String escape(String value) {
+        var builder = new StringBuilder(value.length() + 8);
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) builder.append(String.format("\\u%04x", (int) c));
+                    else builder.append(c);
+                }
+            }
+        }
+        return builder.toString();
+    }
+}
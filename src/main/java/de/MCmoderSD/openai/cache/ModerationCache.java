@@ -0,0 +1,190 @@
+package de.MCmoderSD.openai.cache;
+
+import de.MCmoderSD.openai.models.ModerationModel;
+import de.MCmoderSD.openai.objects.Rating;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("unused")
+public class ModerationCache {
+
+    // Attributes
+    private final int maxSize;
+    private final long ttl;
+    private final LinkedHashMap<Key, Entry> cache;
+
+    // Metrics
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder expirations;
+
+    // Constructor
+    public ModerationCache(int maxSize, Duration ttl) {
+
+        // Check Parameters
+        if (maxSize < 1) throw new IllegalArgumentException("Max size must be positive");
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("TTL must be positive");
+
+        // Set Attributes
+        this.maxSize = maxSize;
+        this.ttl = ttl.toNanos();
+
+        // Init Metrics
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+        expirations = new LongAdder();
+
+        // Init LRU Cache
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() <= ModerationCache.this.maxSize) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    // Get cached Rating
+    public Rating get(ModerationModel model, String text) {
+
+        // Check Parameters
+        if (model == null) throw new IllegalArgumentException("Model must not be null");
+        if (text == null) throw new IllegalArgumentException("Text must not be null");
+
+        // Lookup
+        var key = fingerprint(model, text);
+        synchronized (cache) {
+            var entry = cache.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+
+            // Check Expiration
+            if (System.nanoTime() - entry.expiresAt > 0) {
+                cache.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+
+            hits.increment();
+            return entry.rating;
+        }
+    }
+
+    // Cache Rating
+    public void put(ModerationModel model, String text, Rating rating) {
+
+        // Check Parameters
+        if (model == null) throw new IllegalArgumentException("Model must not be null");
+        if (text == null) throw new IllegalArgumentException("Text must not be null");
+        if (rating == null) throw new IllegalArgumentException("Rating must not be null");
+
+        // Insert
+        var key = fingerprint(model, text);
+        var entry = new Entry(rating, System.nanoTime() + ttl);
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+    }
+
+    // Invalidate single Entry
+    public void invalidate(ModerationModel model, String text) {
+        var key = fingerprint(model, text);
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    // Clear Cache
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    // Normalize Text: case-folded, whitespace-collapsed and trimmed
+    public static String normalize(String text) {
+        var builder = new StringBuilder(text.length());
+        var whitespace = false;
+        for (var i = 0; i < text.length(); ) {
+            var codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+                whitespace = !builder.isEmpty();
+                continue;
+            }
+            if (whitespace) builder.append(' ');
+            whitespace = false;
+            builder.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+        }
+        return builder.toString();
+    }
+
+    // Fingerprint: Model + SHA-256 of normalized Text
+    private static Key fingerprint(ModerationModel model, String text) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(normalize(text).getBytes(StandardCharsets.UTF_8));
+            var buffer = ByteBuffer.wrap(digest);
+            return new Key(model, buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create fingerprint: " + e.getMessage(), e);
+        }
+    }
+
+    // Getter
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Duration getTtl() {
+        return Duration.ofNanos(ttl);
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    public double getHitRate() {
+        var hits = this.hits.sum();
+        var total = hits + misses.sum();
+        return total == 0 ? 0d : (double) hits / total;
+    }
+
+    // Key Record
+    private record Key(ModerationModel model, long high, long low) {
+    }
+
+    // Entry Record
+    private record Entry(Rating rating, long expiresAt) {
+    }
+}
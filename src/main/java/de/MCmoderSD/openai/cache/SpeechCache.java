@@ -0,0 +1,298 @@
+package de.MCmoderSD.openai.cache;
+
+import com.openai.models.audio.speech.SpeechCreateParams.ResponseFormat;
+
+import de.MCmoderSD.openai.enums.Voice;
+import de.MCmoderSD.openai.models.SpeechModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+
+// Two Tier Audio Cache, Entries are handed out as read-only Buffers so Callers can't corrupt them
+// The Memory Tier holds private Copies, the Disk Tier serves memory-mapped Files without copying them onto the Heap
+@SuppressWarnings("unused")
+public class SpeechCache {
+
+    // Constants
+    public static final long DEFAULT_MAX_DISK = 1024L * 1024 * 1024;
+    private static final String TEMP = ".tmp";
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]{1,8}");
+
+    // Attributes
+    private final long maxMemory;
+    private final long maxDisk;
+    private final Path directory;
+    private final LinkedHashMap<String, byte[]> cache;
+    private final LinkedHashMap<String, Long> files;
+    private long memory;
+    private long disk;
+
+    // Metrics
+    private final LongAdder memoryHits;
+    private final LongAdder diskHits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    // Constructor
+    public SpeechCache(long maxMemory, File directory, long maxDisk) {
+
+        // Check Parameters
+        if (maxMemory < 0) throw new IllegalArgumentException("Max memory must not be negative");
+        if (maxDisk < 0) throw new IllegalArgumentException("Max disk must not be negative");
+        if (directory != null && directory.exists() && !directory.isDirectory()) throw new IllegalArgumentException("Directory must be a directory");
+
+        // Set Attributes
+        this.maxMemory = maxMemory;
+        this.maxDisk = maxDisk;
+        this.directory = directory == null ? null : directory.toPath();
+        cache = new LinkedHashMap<>(16, 0.75f, true);
+        files = new LinkedHashMap<>(16, 0.75f, true);
+        memory = 0;
+        disk = 0;
+
+        // Init Metrics
+        memoryHits = new LongAdder();
+        diskHits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+
+        // Create Directory and index existing Cache Files, oldest first, foreign Files are never indexed and so never evicted
+        if (this.directory != null) {
+            try {
+                Files.createDirectories(this.directory);
+                try (var stream = Files.list(this.directory)) {
+                    var existing = stream.filter(Files::isRegularFile).filter(file -> KEY.matcher(file.getFileName().toString()).matches()).sorted(Comparator.comparing(file -> file.toFile().lastModified())).toList();
+                    synchronized (files) {
+                        for (var file : existing) index(file.getFileName().toString(), file.toFile().length());
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to create cache directory: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    public SpeechCache(long maxMemory, File directory) {
+        this(maxMemory, directory, DEFAULT_MAX_DISK);
+    }
+
+    // Memory only Constructor
+    public SpeechCache(long maxMemory) {
+        this(maxMemory, null);
+    }
+
+    // Get cached Audio as read-only Buffer
+    public ByteBuffer get(String key) {
+
+        // Check Key
+        checkKey(key);
+
+        // Check Memory Tier
+        synchronized (cache) {
+            var data = cache.get(key);
+            if (data != null) {
+                memoryHits.increment();
+                return ByteBuffer.wrap(data).asReadOnlyBuffer();
+            }
+        }
+
+        // Check Disk Tier, the Mapping stays valid after the Channel is closed
+        if (directory != null) {
+            synchronized (files) {
+                if (files.get(key) == null) {
+                    misses.increment();
+                    return null;
+                }
+            }
+            var file = resolve(key);
+            try (var channel = FileChannel.open(file, READ)) {
+                var buffer = channel.map(READ_ONLY, 0, channel.size());
+                diskHits.increment();
+                return buffer;
+            } catch (IOException e) {
+                synchronized (files) {
+                    var size = files.remove(key);
+                    if (size != null) disk -= size;
+                }
+                if (e instanceof NoSuchFileException) {
+                    misses.increment();
+                    return null;
+                }
+                throw new RuntimeException("Failed to read cached speech: " + e.getMessage(), e);
+            }
+        }
+
+        // Miss
+        misses.increment();
+        return null;
+    }
+
+    // Cache Audio, the Data is copied so later Changes by the Caller don't reach the Cache
+    public void put(String key, byte[] data) {
+
+        // Check Parameters
+        checkKey(key);
+        if (data == null) throw new IllegalArgumentException("Data must not be null");
+
+        // Write Disk Tier atomically
+        if (directory != null && data.length <= maxDisk) {
+            var temp = directory.resolve(key + "." + UUID.randomUUID() + TEMP);
+            try {
+                Files.write(temp, data);
+                Files.move(temp, resolve(key), ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (IOException e) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+                throw new RuntimeException("Failed to write cached speech: " + e.getMessage(), e);
+            }
+            synchronized (files) {
+                index(key, data.length);
+            }
+        }
+
+        // Write Memory Tier
+        if (data.length > maxMemory) return;
+        var copy = data.clone();
+        synchronized (cache) {
+            var previous = cache.put(key, copy);
+            if (previous != null) memory -= previous.length;
+            memory += copy.length;
+
+            // Evict least recently used Entries
+            var iterator = cache.entrySet().iterator();
+            while (memory > maxMemory && iterator.hasNext()) {
+                Map.Entry<String, byte[]> eldest = iterator.next();
+                memory -= eldest.getValue().length;
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    // Clear Memory Tier
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            memory = 0;
+        }
+    }
+
+    // Content-addressed Key: Model + Voice + Speed + Instructions + Format + Text
+    public static String key(SpeechModel model, Voice voice, double speed, String instructions, ResponseFormat format, String text) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update((model.getName() + '\0' + voice.getName() + '\0' + speed + '\0' + instructions + '\0' + format.asString() + '\0').getBytes(StandardCharsets.UTF_8));
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest()) + "." + format.asString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create cache key: " + e.getMessage(), e);
+        }
+    }
+
+    // Check Key, only the Shape produced by key() is accepted, so Keys can't name Paths outside the Directory
+    private static void checkKey(String key) {
+        if (key == null) throw new IllegalArgumentException("Key must not be null");
+        if (!KEY.matcher(key).matches()) throw new IllegalArgumentException("Key must be a cache key: " + key);
+    }
+
+    // Resolve Key inside the Directory
+    private Path resolve(String key) {
+        var file = directory.resolve(key).normalize();
+        if (!directory.normalize().equals(file.getParent())) throw new IllegalArgumentException("Key must resolve inside the cache directory: " + key);
+        return file;
+    }
+
+    // Helper Method, indexes a File and deletes least recently used Files beyond the Disk Limit, caller holds the Files Lock
+    private void index(String key, long size) {
+        var previous = files.put(key, size);
+        if (previous != null) disk -= previous;
+        disk += size;
+        var iterator = files.entrySet().iterator();
+        while (disk > maxDisk && iterator.hasNext()) {
+            var eldest = iterator.next();
+            if (eldest.getKey().equals(key)) continue;
+            disk -= eldest.getValue();
+            iterator.remove();
+            evictions.increment();
+            try {
+                Files.deleteIfExists(resolve(eldest.getKey()));
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    // Getter
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    public long getMaxDisk() {
+        return maxDisk;
+    }
+
+    public File getDirectory() {
+        return directory == null ? null : directory.toFile();
+    }
+
+    public long getMemory() {
+        synchronized (cache) {
+            return memory;
+        }
+    }
+
+    public long getDisk() {
+        synchronized (files) {
+            return disk;
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getMemoryHits() {
+        return memoryHits.sum();
+    }
+
+    public long getDiskHits() {
+        return diskHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        var hits = memoryHits.sum() + diskHits.sum();
+        var total = hits + misses.sum();
+        return total == 0 ? 0d : (double) hits / total;
+    }
+}
\ No newline at end of file
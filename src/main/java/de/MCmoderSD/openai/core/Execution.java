@@ -0,0 +1,96 @@
+package de.MCmoderSD.openai.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@SuppressWarnings("unused")
+public class Execution {
+
+    // Virtual Thread per Task
+    public static ExecutorService virtual() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("openai-", 0).factory());
+    }
+
+    // Submit Task, cancelling the Future interrupts the Task and aborts blocking Socket IO on Virtual Threads
+    public static <T> CompletableFuture<T> submit(ExecutorService executor, Callable<T> task) {
+
+        // Check Parameters
+        if (executor == null) throw new IllegalArgumentException("Executor must not be null");
+        if (task == null) throw new IllegalArgumentException("Task must not be null");
+
+        // Run Task
+        var result = new CompletableFuture<T>();
+        Future<?> future = executor.submit(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        // Propagate Cancellation
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) future.cancel(true);
+        });
+
+        // Return Result
+        return result;
+    }
+
+    // Run all Tasks with a shared Deadline, the first Failure or the Deadline cancels all remaining Tasks
+    public static <T> List<T> invokeAll(ExecutorService executor, Collection<? extends Callable<T>> tasks, Duration timeout) {
+
+        // Check Parameters
+        if (tasks == null) throw new IllegalArgumentException("Tasks must not be null");
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("Timeout must be positive");
+
+        // Fork Tasks
+        var deadline = System.nanoTime() + timeout.toNanos();
+        var futures = new ArrayList<CompletableFuture<T>>(tasks.size());
+        for (var task : tasks) futures.add(submit(executor, task));
+
+        // Join Tasks
+        var all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        for (var future : futures) future.whenComplete((value, error) -> {
+            if (error != null) all.completeExceptionally(error);
+        });
+        try {
+            all.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for tasks", e);
+        } catch (TimeoutException e) {
+            cancel(futures);
+            throw new RuntimeException("Failed to complete tasks: deadline of " + timeout.toMillis() + "ms exceeded", e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new RuntimeException("Failed to complete tasks: " + e.getCause().getMessage(), e.getCause());
+        } catch (CancellationException e) {
+            cancel(futures);
+            throw e;
+        }
+
+        // Collect Results in Task Order
+        var results = new ArrayList<T>(futures.size());
+        for (var future : futures) results.add(future.join());
+        return results;
+    }
+
+    // Cancel Futures
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (var future : futures) future.cancel(true);
+    }
+}
\ No newline at end of file
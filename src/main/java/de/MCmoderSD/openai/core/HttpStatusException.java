@@ -0,0 +1,30 @@
+package de.MCmoderSD.openai.core;
+
+import com.openai.core.http.Headers;
+
+import java.time.Duration;
+
+// Non-successful HTTP Status of a raw Response, carries the Retry-After Hint
+@SuppressWarnings("unused")
+public class HttpStatusException extends RuntimeException {
+
+    // Attributes
+    private final int status;
+    private final Duration retryAfter;
+
+    // Constructor
+    public HttpStatusException(String message, int status, Headers headers) {
+        super(message + ", HTTP status code: " + status);
+        this.status = status;
+        retryAfter = headers == null ? null : RetryPolicy.retryAfter(headers);
+    }
+
+    // Getter
+    public int getStatus() {
+        return status;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
\ No newline at end of file
@@ -2,26 +2,52 @@ package de.MCmoderSD.openai.core;
 
 import com.openai.client.OpenAIClient;
 import com.openai.client.okhttp.OpenAIOkHttpClient;
+import de.MCmoderSD.openai.metrics.MetricsRecorder;
+import de.MCmoderSD.openai.trace.RequestListener;
+import de.MCmoderSD.openai.trace.Tracer;
 import de.MCmoderSD.openai.services.ChatService;
 import de.MCmoderSD.openai.services.EmbeddingService;
 import de.MCmoderSD.openai.services.ModerationService;
 import de.MCmoderSD.openai.services.SpeechService;
+import de.MCmoderSD.openai.services.TranscriptionService;
 import de.MCmoderSD.openai.services.TranslationService;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
 @SuppressWarnings("unused")
-public class OpenAI {
+public class OpenAI implements AutoCloseable {
 
     // Attributes
     protected final OpenAIClient client;
+    protected final Tracer tracer;
+    protected final ExecutorService virtual;
+    protected final RetryPolicy retryPolicy;
+    protected volatile MetricsRecorder metrics;
+    protected volatile ExecutorService executor;
 
-    // Constructor
-    public OpenAI(String apiKey, @Nullable String organizationId, @Nullable String projectId, @Nullable String baseUrl) {
-        var builder = OpenAIOkHttpClient.builder().apiKey(apiKey);
+    // Constructor, a Retry Policy replaces the Retries of the SDK
+    public OpenAI(String apiKey, @Nullable String organizationId, @Nullable String projectId, @Nullable String baseUrl, @Nullable RetryPolicy retryPolicy) {
+        virtual = Execution.virtual();
+        executor = virtual;
+        this.retryPolicy = retryPolicy == null ? RetryPolicy.NONE : retryPolicy;
+        var builder = OpenAIOkHttpClient.builder().apiKey(apiKey).streamHandlerExecutor(virtual);
         if (organizationId != null && !organizationId.isBlank()) builder.organization(organizationId);
         if (projectId != null && !projectId.isBlank()) builder.project(projectId);
         if (baseUrl != null && !baseUrl.isBlank()) builder.baseUrl(baseUrl);
+        if (retryPolicy != null) builder.maxRetries(0);
         client = builder.build();
+        tracer = new Tracer();
+        metrics = MetricsRecorder.NOOP;
+    }
+
+    public OpenAI(String apiKey, @Nullable String organizationId, @Nullable String projectId, @Nullable String baseUrl) {
+        this(apiKey, organizationId, projectId, baseUrl, null);
     }
 
     public OpenAI(String apiKey, String organizationId, String projectId) {
@@ -57,8 +83,70 @@ public class OpenAI {
         return TranslationService.builder().build(this);
     }
 
+    public TranscriptionService transcriptions() {
+        return TranscriptionService.builder().build(this);
+    }
+
+    // Setter, applies to Services built afterwards
+    public OpenAI setMetrics(MetricsRecorder metrics) {
+        if (metrics == null) throw new IllegalArgumentException("Metrics must not be null");
+        this.metrics = metrics;
+        return this;
+    }
+
+    // Setter, Executor for async Calls of all Services, read on every Call, defaults to a Virtual Thread per Task
+    public OpenAI setExecutor(ExecutorService executor) {
+        if (executor == null) throw new IllegalArgumentException("Executor must not be null");
+        this.executor = executor;
+        return this;
+    }
+
+    // Run Task on the Executor, cancelling the Future interrupts the Task
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return Execution.submit(executor, task);
+    }
+
+    // Run Tasks concurrently with a shared Deadline, the first Failure or the Deadline cancels the rest
+    public <T> List<T> invokeAll(Collection<? extends Callable<T>> tasks, Duration timeout) {
+        return Execution.invokeAll(executor, tasks, timeout);
+    }
+
+    // Add Listener for Request Phases, applies to all Services
+    public OpenAI addListener(RequestListener listener) {
+        tracer.addListener(listener);
+        return this;
+    }
+
+    public OpenAI removeListener(RequestListener listener) {
+        tracer.removeListener(listener);
+        return this;
+    }
+
     // Getter
     public OpenAIClient getClient() {
         return client;
     }
+
+    public MetricsRecorder getMetrics() {
+        return metrics;
+    }
+
+    public Tracer getTracer() {
+        return tracer;
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    // Stop the Virtual Thread Executor and release the HTTP Client, a custom Executor is left running
+    @Override
+    public void close() {
+        virtual.shutdown();
+        client.close();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package de.MCmoderSD.openai.core;
+
+import com.openai.core.RequestOptions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+// Deadline and Cancellation for one or more Calls, cancelling aborts the running HTTP Call and closes open Streams
+@SuppressWarnings("unused")
+public class RequestContext implements AutoCloseable {
+
+    // Constants
+    private static final long NONE = Long.MAX_VALUE;
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    // Attributes
+    private final long deadline;
+    private final CopyOnWriteArrayList<Runnable> callbacks;
+    private final AtomicReference<RuntimeException> cause;
+    private final ScheduledFuture<?> expiry;
+    private final Registration parent;
+
+    // Constructor
+    private RequestContext(long deadline, RequestContext parent) {
+
+        // Init Attributes
+        this.deadline = deadline;
+        callbacks = new CopyOnWriteArrayList<>();
+        cause = new AtomicReference<>();
+
+        // Propagate Cancellation from Parent
+        this.parent = parent == null ? null : parent.onCancel(() -> cancel(parent.cause.get()));
+
+        // Expire at Deadline
+        var remaining = deadline - System.nanoTime();
+        if (deadline == NONE) expiry = null;
+        else if (remaining > 0) expiry = TIMER.schedule(() -> cancel(deadlineExceeded()), remaining, TimeUnit.NANOSECONDS);
+        else {
+            expiry = null;
+            cancel(deadlineExceeded());
+        }
+    }
+
+    // Cancellable without Deadline
+    public static RequestContext create() {
+        return new RequestContext(NONE, null);
+    }
+
+    // Deadline relative to now
+    public static RequestContext withTimeout(Duration timeout) {
+        return new RequestContext(deadline(timeout), null);
+    }
+
+    // Absolute Deadline
+    public static RequestContext withDeadline(Instant deadline) {
+        if (deadline == null) throw new IllegalArgumentException("Deadline must not be null");
+        var timeout = Duration.between(Instant.now(), deadline);
+        return withTimeout(timeout.isNegative() ? Duration.ZERO : timeout);
+    }
+
+    // Child with the same Deadline, cancelled together with this Context
+    public RequestContext child() {
+        return new RequestContext(deadline, this);
+    }
+
+    // Child with the earlier Deadline, cancelled together with this Context
+    public RequestContext child(Duration timeout) {
+        return new RequestContext(Math.min(deadline, deadline(timeout)), this);
+    }
+
+    // Cancel, aborts running Calls and closes open Streams
+    public void cancel() {
+        cancel(new CancellationException("Request cancelled"));
+    }
+
+    private void cancel(RuntimeException exception) {
+        if (!cause.compareAndSet(null, exception)) return;
+        for (var callback : callbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                exception.addSuppressed(e);
+            }
+        }
+        callbacks.clear();
+    }
+
+    // Register Callback, runs immediately if already cancelled
+    public Registration onCancel(Runnable callback) {
+        if (callback == null) throw new IllegalArgumentException("Callback must not be null");
+        callbacks.add(callback);
+        if (cause.get() != null && callbacks.remove(callback)) callback.run();
+        return () -> callbacks.remove(callback);
+    }
+
+    // Close Resource on Cancellation, e.g. a Stream
+    public Registration closeOnCancel(AutoCloseable resource) {
+        if (resource == null) throw new IllegalArgumentException("Resource must not be null");
+        return onCancel(() -> {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to close resource: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    // Throw if cancelled or expired
+    public void check() {
+        var exception = cause.get();
+        if (exception != null) throw exception;
+    }
+
+    // SDK Request Options, the Timeout is the remaining Time
+    public RequestOptions options() {
+        check();
+        var builder = RequestOptions.builder();
+        if (deadline != NONE) builder.timeout(getRemaining());
+        return builder.build();
+    }
+
+    // Send and await, the Future is cancelled on Cancellation or Deadline
+    public <T> T call(Function<RequestOptions, CompletableFuture<T>> call) {
+        return await(call.apply(options()));
+    }
+
+    // Await Future, the Future is cancelled on Cancellation or Deadline
+    public <T> T await(CompletableFuture<T> future) {
+        try (var registration = onCancel(() -> future.cancel(true))) {
+            return deadline == NONE ? future.get() : future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            cancel(deadlineExceeded());
+            throw cause.get();
+        } catch (CancellationException e) {
+            var exception = cause.get();
+            throw exception != null ? exception : e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for response", e);
+        } catch (ExecutionException e) {
+            var exception = cause.get();
+            if (exception != null) throw exception;
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new RuntimeException("Failed to complete request: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    // Release Timer and Parent Registration, does not cancel
+    @Override
+    public void close() {
+        if (expiry != null) expiry.cancel(false);
+        if (parent != null) parent.close();
+    }
+
+    // Getter
+    public boolean isCancelled() {
+        return cause.get() != null;
+    }
+
+    public boolean isExpired() {
+        return deadline != NONE && System.nanoTime() - deadline >= 0;
+    }
+
+    public boolean hasDeadline() {
+        return deadline != NONE;
+    }
+
+    public Duration getRemaining() {
+        if (deadline == NONE) return null;
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    public RuntimeException getCause() {
+        return cause.get();
+    }
+
+    // Deadline in Nanoseconds
+    private static long deadline(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) throw new IllegalArgumentException("Timeout must not be null or negative");
+        return System.nanoTime() + timeout.toNanos();
+    }
+
+    private static RuntimeException deadlineExceeded() {
+        return new RuntimeException("Failed to complete request: deadline exceeded", new TimeoutException("Deadline exceeded"));
+    }
+
+    // Shared Timer, a single Daemon Thread
+    private static ScheduledThreadPoolExecutor timer() {
+        var timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            var thread = new Thread(runnable, "openai-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    // Callback Handle
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
\ No newline at end of file
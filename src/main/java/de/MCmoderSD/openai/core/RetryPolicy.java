@@ -0,0 +1,328 @@
+package de.MCmoderSD.openai.core;
+
+import com.openai.core.http.Headers;
+import com.openai.errors.OpenAIIoException;
+import com.openai.errors.OpenAIServiceException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Retries transient Failures (408, 429, 5xx, Timeouts and IO Errors) with exponential Backoff and decorrelated Jitter
+// Retry-After is honoured, a Token Bucket shared by all Services of an OpenAI Instance caps Retries at a Share of Requests
+@SuppressWarnings("unused")
+public class RetryPolicy {
+
+    // Constants
+    public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0, 0, 0);
+    private static final long TOKEN = 1000;
+    private static final int WINDOW = 100;
+
+    // Parameters
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final double budgetRatio;
+    private final int budgetReserve;
+
+    // Budget in Milli-Tokens, a Retry costs one Token
+    // Starts with the Reserve, every Request earns the Ratio on top, unused Credit is kept for the last 100 Requests
+    private final AtomicLong balance;
+    private final long deposit;
+    private final long capacity;
+
+    // Statistics
+    private final LongAdder requests;
+    private final LongAdder retries;
+    private final LongAdder rejected;
+
+    // Constructor
+    private RetryPolicy(int maxAttempts, long baseDelay, long maxDelay, double budgetRatio, int budgetReserve) {
+
+        // Set Parameters
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.budgetRatio = budgetRatio;
+        this.budgetReserve = budgetReserve;
+
+        // Init Budget, the Credit holds at least one Token so small Ratios still add up to a Retry
+        deposit = Math.round(budgetRatio * TOKEN);
+        capacity = budgetReserve * TOKEN + Math.max(TOKEN, Math.round(budgetRatio * WINDOW * TOKEN));
+        balance = new AtomicLong(budgetReserve * TOKEN);
+
+        // Init Statistics
+        requests = new LongAdder();
+        retries = new LongAdder();
+        rejected = new LongAdder();
+    }
+
+    // Run Call, retries within Attempts, Budget and the Deadline of the optional Context
+    public <T> T execute(Supplier<T> call, @Nullable RequestContext context) {
+
+        // Check Parameters
+        if (call == null) throw new IllegalArgumentException("Call must not be null");
+        if (maxAttempts == 1) return call.get();
+
+        // Every Request pays into the Budget
+        requests.increment();
+        balance.accumulateAndGet(deposit, (current, add) -> Math.min(capacity, current + add));
+
+        // Attempt
+        var delay = baseDelay;
+        for (var attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+
+                // Check Failure
+                if (attempt >= maxAttempts || !retryable(e)) throw e;
+                if (Thread.currentThread().isInterrupted() || context != null && context.isCancelled()) throw e;
+
+                // Decorrelated Jitter, at least Retry-After
+                delay = Math.min(maxDelay, ThreadLocalRandom.current().nextLong(baseDelay, delay * 3 + 1));
+                var wait = delay;
+                var retryAfter = retryAfter(e);
+                if (retryAfter != null) {
+                    if (retryAfter.compareTo(Duration.ofNanos(maxDelay)) > 0) throw e;
+                    wait = Math.max(wait, retryAfter.toNanos());
+                }
+
+                // Check Deadline
+                if (context != null && context.hasDeadline() && wait >= context.getRemaining().toNanos()) throw e;
+
+                // Check Budget
+                if (!withdraw()) {
+                    rejected.increment();
+                    throw e;
+                }
+                retries.increment();
+
+                // Wait, the Context cuts the Wait short
+                sleep(wait, context, e);
+            }
+        }
+    }
+
+    // Take one Token from the Budget
+    private boolean withdraw() {
+        while (true) {
+            var current = balance.get();
+            if (current < TOKEN) return false;
+            if (balance.compareAndSet(current, current - TOKEN)) return true;
+        }
+    }
+
+    // Backoff
+    private static void sleep(long nanos, @Nullable RequestContext context, RuntimeException failure) {
+        if (context != null) {
+            context.await(new CompletableFuture<Void>().completeOnTimeout(null, nanos, TimeUnit.NANOSECONDS));
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(e);
+            throw failure;
+        }
+    }
+
+    // Transient Failure, walks the Cause Chain
+    public static boolean retryable(Throwable throwable) {
+        for (var current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof OpenAIServiceException exception) return retryable(exception.statusCode());
+            if (current instanceof HttpStatusException exception) return retryable(exception.getStatus());
+            if (current instanceof CancellationException || current instanceof InterruptedException) return false;
+            if (current instanceof OpenAIIoException || current instanceof IOException || current instanceof TimeoutException) return true;
+        }
+        return false;
+    }
+
+    // Transient HTTP Status
+    public static boolean retryable(int status) {
+        return status == 408 || status == 429 || status >= 500;
+    }
+
+    // Retry-After of a Failure, null if absent
+    public static Duration retryAfter(Throwable throwable) {
+        for (var current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof OpenAIServiceException exception) return exception.headers() == null ? null : retryAfter(exception.headers());
+            if (current instanceof HttpStatusException exception) return exception.getRetryAfter();
+        }
+        return null;
+    }
+
+    // Retry-After from Headers, Milliseconds take Precedence over Seconds or an HTTP Date
+    public static Duration retryAfter(Headers headers) {
+
+        // Retry-After-Ms
+        var millis = headers.values("retry-after-ms");
+        if (millis != null && !millis.isEmpty()) {
+            var value = parse(millis.getFirst());
+            if (value >= 0) return Duration.ofMillis(Math.round(value));
+        }
+
+        // Retry-After
+        var retryAfter = headers.values("retry-after");
+        if (retryAfter == null || retryAfter.isEmpty()) return null;
+        var seconds = parse(retryAfter.getFirst());
+        if (seconds >= 0) return Duration.ofMillis(Math.round(seconds * 1000));
+        try {
+            var delay = Duration.between(Instant.now(), ZonedDateTime.parse(retryAfter.getFirst().strip(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // Parse non-negative Number, -1 if invalid
+    private static double parse(String value) {
+        try {
+            var number = Double.parseDouble(value.strip());
+            return Double.isFinite(number) && number >= 0 ? number : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Getter
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getBaseDelay() {
+        return Duration.ofNanos(baseDelay);
+    }
+
+    public Duration getMaxDelay() {
+        return Duration.ofNanos(maxDelay);
+    }
+
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public int getBudgetReserve() {
+        return budgetReserve;
+    }
+
+    public double getBudget() {
+        return (double) balance.get() / TOKEN;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    // Static Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Builder Class
+    public static class Builder {
+
+        // Parameter
+        private int maxAttempts;
+        private Duration baseDelay;
+        private Duration maxDelay;
+        private double budgetRatio;
+        private int budgetReserve;
+
+        // Constructor
+        private Builder() {
+            maxAttempts = 3;
+            baseDelay = Duration.ofMillis(250);
+            maxDelay = Duration.ofSeconds(20);
+            budgetRatio = 0.1;
+            budgetReserve = 10;
+        }
+
+        // Build
+        public RetryPolicy build() {
+
+            // Check Delays
+            if (maxDelay.compareTo(baseDelay) < 0) throw new IllegalArgumentException("Max delay must not be less than base delay");
+
+            // Build and Return
+            return new RetryPolicy(maxAttempts, baseDelay.toNanos(), maxDelay.toNanos(), budgetRatio, budgetReserve);
+        }
+
+        // Set Max Attempts, including the first Attempt
+        public Builder setMaxAttempts(int maxAttempts) {
+
+            // Check Max Attempts
+            if (maxAttempts < 1) throw new IllegalArgumentException("Max attempts must be at least 1");
+
+            // Set Max Attempts
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        // Set Base Delay, the lower Bound of the Jitter
+        public Builder setBaseDelay(Duration baseDelay) {
+
+            // Check Base Delay
+            if (baseDelay == null || baseDelay.isNegative() || baseDelay.isZero()) throw new IllegalArgumentException("Base delay must be positive");
+
+            // Set Base Delay
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        // Set Max Delay, a longer Retry-After fails immediately
+        public Builder setMaxDelay(Duration maxDelay) {
+
+            // Check Max Delay
+            if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) throw new IllegalArgumentException("Max delay must be positive");
+            if (maxDelay.compareTo(Duration.ofDays(1)) > 0) throw new IllegalArgumentException("Max delay must not exceed one day");
+
+            // Set Max Delay
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        // Set Budget Ratio, the Share of Requests that may be retried
+        public Builder setBudgetRatio(double budgetRatio) {
+
+            // Check Budget Ratio
+            if (budgetRatio < 0 || budgetRatio > 1) throw new IllegalArgumentException("Budget ratio must be between 0 and 1");
+
+            // Set Budget Ratio
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        // Set Budget Reserve, Retries available on top of the Ratio before any Credit is earned
+        public Builder setBudgetReserve(int budgetReserve) {
+
+            // Check Budget Reserve
+            if (budgetReserve < 0) throw new IllegalArgumentException("Budget reserve must not be negative");
+
+            // Set Budget Reserve
+            this.budgetReserve = budgetReserve;
+            return this;
+        }
+    }
+}
\ No newline at end of file
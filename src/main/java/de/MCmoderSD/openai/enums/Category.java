@@ -0,0 +1,41 @@
+package de.MCmoderSD.openai.enums;
+
+public enum Category {
+
+    // Categories
+    HARASSMENT("Harassment"),
+    HARASSMENT_THREATENING("Harassment Threatening"),
+    HATE("Hate"),
+    HATE_THREATENING("Hate Threatening"),
+    ILLICIT("Illicit"),
+    ILLICIT_VIOLENT("Illicit Violent"),
+    SELF_HARM("Self Harm"),
+    SELF_HARM_INSTRUCTIONS("Self Harm Instructions"),
+    SELF_HARM_INTENT("Self Harm Intent"),
+    SEXUAL("Sexual"),
+    SEXUAL_MINORS("Sexual Minors"),
+    VIOLENCE("Violence"),
+    VIOLENCE_GRAPHIC("Violence Graphic");
+
+    // Constants
+    public static final int COUNT = values().length;
+
+    // Attributes
+    private final String name;
+    private final int mask;
+
+    // Constructor
+    Category(String name) {
+        this.name = name;
+        this.mask = 1 << ordinal();
+    }
+
+    // Getter
+    public String getName() {
+        return name;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+}
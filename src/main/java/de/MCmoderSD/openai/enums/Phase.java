@@ -0,0 +1,5 @@
+package de.MCmoderSD.openai.enums;
+
+public enum Phase {
+    BUILD_PARAMS, FILE_IO, NETWORK, PARSE, READ_BODY
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package de.MCmoderSD.openai.filter;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+
+@SuppressWarnings("unused")
+public class AhoCorasick {
+
+    // Attributes
+    private final String[] patterns;
+    private final char[][] keys;
+    private final int[][] next;
+    private final int[] fail;
+    private final int[] output;
+    private final int[] dictionary;
+
+    // Constructor
+    public AhoCorasick(Collection<String> patterns) {
+
+        // Check Patterns
+        if (patterns == null) throw new IllegalArgumentException("Patterns must not be null");
+        this.patterns = patterns.toArray(String[]::new);
+
+        // Count Nodes
+        var capacity = 1;
+        for (var pattern : this.patterns) {
+            if (pattern == null || pattern.isEmpty()) throw new IllegalArgumentException("Patterns must not be null or empty");
+            capacity += pattern.length();
+        }
+
+        // Init Trie
+        keys = new char[capacity][];
+        next = new int[capacity][];
+        fail = new int[capacity];
+        output = new int[capacity];
+        dictionary = new int[capacity];
+        Arrays.fill(output, -1);
+        Arrays.fill(dictionary, -1);
+        keys[0] = new char[0];
+        next[0] = new int[0];
+
+        // Build Trie
+        var size = 1;
+        for (var index = 0; index < this.patterns.length; index++) {
+            var node = 0;
+            for (var c : this.patterns[index].toCharArray()) {
+                var child = child(node, c);
+                if (child < 0) {
+                    keys[size] = new char[0];
+                    next[size] = new int[0];
+                    insert(node, c, size);
+                    child = size++;
+                }
+                node = child;
+            }
+            if (output[node] < 0) output[node] = index;
+        }
+
+        // Build Failure and Dictionary Links
+        var queue = new ArrayDeque<Integer>();
+        for (var child : next[0]) queue.add(child);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (var i = 0; i < keys[node].length; i++) {
+                var c = keys[node][i];
+                var child = next[node][i];
+                var state = fail[node];
+                while (state > 0 && child(state, c) < 0) state = fail[state];
+                var target = child(state, c);
+                fail[child] = target >= 0 && target != child ? target : 0;
+                dictionary[child] = output[fail[child]] >= 0 ? fail[child] : dictionary[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    // Find all Matches, calls the Listener with Pattern Index and End Position (exclusive)
+    public void search(CharSequence text, Listener listener) {
+        var node = 0;
+        for (var i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            while (node > 0 && child(node, c) < 0) node = fail[node];
+            var child = child(node, c);
+            node = child < 0 ? 0 : child;
+            for (var state = output[node] >= 0 ? node : dictionary[node]; state > 0; state = dictionary[state])
+                if (!listener.onMatch(output[state], i + 1)) return;
+        }
+    }
+
+    // Getter
+    public String getPattern(int index) {
+        return patterns[index];
+    }
+
+    public int size() {
+        return patterns.length;
+    }
+
+    // Helper Methods
+    private int child(int node, char c) {
+        var index = Arrays.binarySearch(keys[node], c);
+        return index < 0 ? -1 : next[node][index];
+    }
+
+    private void insert(int node, char c, int child) {
+        var index = -Arrays.binarySearch(keys[node], c) - 1;
+        var length = keys[node].length;
+        var newKeys = new char[length + 1];
+        var newNext = new int[length + 1];
+        System.arraycopy(keys[node], 0, newKeys, 0, index);
+        System.arraycopy(next[node], 0, newNext, 0, index);
+        newKeys[index] = c;
+        newNext[index] = child;
+        System.arraycopy(keys[node], index, newKeys, index + 1, length - index);
+        System.arraycopy(next[node], index, newNext, index + 1, length - index);
+        keys[node] = newKeys;
+        next[node] = newNext;
+    }
+
+    // Match Listener, return false to stop searching
+    @FunctionalInterface
+    public interface Listener {
+        boolean onMatch(int pattern, int end);
+    }
+}
@@ -0,0 +1,168 @@
+package de.MCmoderSD.openai.filter;
+
+import de.MCmoderSD.openai.cache.ModerationCache;
+import de.MCmoderSD.openai.enums.Category;
+import de.MCmoderSD.openai.objects.Rating;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.MCmoderSD.openai.enums.Category.COUNT;
+
+@SuppressWarnings("unused")
+public class LocalFilter implements ModerationFilter {
+
+    // Constants
+    private static final Rating CLEAN = new Rating(false, 0, new double[COUNT]);
+
+    // Attributes
+    private final AhoCorasick allowlist;
+    private final AhoCorasick blocklist;
+    private final Rating[] blocked;
+    private final int maxLength;
+    private final boolean approveSymbols;
+
+    // Constructor
+    private LocalFilter(List<String> allowlist, List<String> blocklist, List<Category> categories, int maxLength, boolean approveSymbols) {
+
+        // Build Automata
+        this.allowlist = new AhoCorasick(allowlist);
+        this.blocklist = new AhoCorasick(blocklist);
+
+        // Build synthetic Ratings for blocked Patterns
+        blocked = new Rating[categories.size()];
+        for (var i = 0; i < blocked.length; i++) {
+            var scores = new double[COUNT];
+            scores[categories.get(i).ordinal()] = 1d;
+            blocked[i] = new Rating(true, categories.get(i).getMask(), scores);
+        }
+
+        // Set Parameters
+        this.maxLength = maxLength;
+        this.approveSymbols = approveSymbols;
+    }
+
+    // Classify Text
+    @Override
+    public Rating classify(String text) {
+
+        // Normalize Text
+        var normalized = ModerationCache.normalize(text);
+
+        // Check Blocklist
+        var match = new int[] {-1};
+        blocklist.search(normalized, (pattern, end) -> {
+            if (!isWord(normalized, end - blocklist.getPattern(pattern).length(), end)) return true;
+            match[0] = pattern;
+            return false;
+        });
+        if (match[0] >= 0) return blocked[match[0]];
+
+        // Check short Inputs
+        if (maxLength > 0 && normalized.codePointCount(0, normalized.length()) <= maxLength) return CLEAN;
+
+        // Check Symbol-only Inputs (Emojis, Punctuation)
+        if (approveSymbols && normalized.codePoints().noneMatch(Character::isLetterOrDigit)) return CLEAN;
+
+        // Check Allowlist, every non-whitespace Character must be covered by an allowed Word
+        if (allowlist.size() > 0 && !normalized.isEmpty()) {
+            var covered = new boolean[normalized.length()];
+            allowlist.search(normalized, (pattern, end) -> {
+                var start = end - allowlist.getPattern(pattern).length();
+                if (isWord(normalized, start, end)) Arrays.fill(covered, start, end, true);
+                return true;
+            });
+            var approved = true;
+            for (var i = 0; i < covered.length && approved; i++) approved = covered[i] || normalized.charAt(i) == ' ';
+            if (approved) return CLEAN;
+        }
+
+        // Undecided
+        return null;
+    }
+
+    // Helper Method
+    private static boolean isWord(String text, int start, int end) {
+        return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1))) && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+
+    // Static Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Builder Class
+    public static class Builder {
+
+        // Parameter
+        private final ArrayList<String> allowlist;
+        private final ArrayList<String> blocklist;
+        private final ArrayList<Category> categories;
+        private int maxLength;
+        private boolean approveSymbols;
+
+        // Constructor
+        private Builder() {
+            allowlist = new ArrayList<>();
+            blocklist = new ArrayList<>();
+            categories = new ArrayList<>();
+            maxLength = 0;
+            approveSymbols = false;
+        }
+
+        // Build
+        public LocalFilter build() {
+            return new LocalFilter(allowlist, blocklist, categories, maxLength, approveSymbols);
+        }
+
+        // Add allowed Words
+        public Builder allow(String... words) {
+
+            // Check Words
+            if (words == null || words.length == 0) throw new IllegalArgumentException("Words must not be null or empty");
+
+            // Add Words
+            for (var word : words) allowlist.add(normalize(word));
+            return this;
+        }
+
+        // Add blocked Words
+        public Builder block(Category category, String... words) {
+
+            // Check Parameters
+            if (category == null) throw new IllegalArgumentException("Category must not be null");
+            if (words == null || words.length == 0) throw new IllegalArgumentException("Words must not be null or empty");
+
+            // Add Words
+            for (var word : words) {
+                blocklist.add(normalize(word));
+                categories.add(category);
+            }
+            return this;
+        }
+
+        // Set Max Length for auto-approved Inputs
+        public Builder setMaxLength(int maxLength) {
+
+            // Check Max Length
+            if (maxLength < 1) throw new IllegalArgumentException("Max length must be positive");
+
+            // Set Max Length
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        // Set Approve Symbols
+        public Builder setApproveSymbols(boolean approveSymbols) {
+            this.approveSymbols = approveSymbols;
+            return this;
+        }
+
+        // Helper Method
+        private static String normalize(String word) {
+            if (word == null || word.isBlank()) throw new IllegalArgumentException("Words must not be null or blank");
+            return ModerationCache.normalize(word);
+        }
+    }
+}
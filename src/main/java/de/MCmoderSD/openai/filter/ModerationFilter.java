@@ -0,0 +1,10 @@
+package de.MCmoderSD.openai.filter;
+
+import de.MCmoderSD.openai.objects.Rating;
+
+@FunctionalInterface
+public interface ModerationFilter {
+
+    // Classify Text locally, returns null if the Text must be sent to the API
+    Rating classify(String text);
+}
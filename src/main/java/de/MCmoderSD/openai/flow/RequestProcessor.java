@@ -0,0 +1,236 @@
+package de.MCmoderSD.openai.flow;
+
+import de.MCmoderSD.openai.core.Execution;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+// Maps each Item to a Request on the Executor, Downstream Demand is capped at Max in Flight and forwarded Upstream
+// Results are emitted in Completion Order, the first Failure cancels Upstream and all running Requests
+@SuppressWarnings("unused")
+public class RequestProcessor<I, O> implements Flow.Processor<I, O> {
+
+    // Attributes
+    private final ExecutorService executor;
+    private final Function<I, O> function;
+    private final int maxInFlight;
+
+    // State
+    private final AtomicReference<Flow.Subscription> upstream;
+    private final AtomicReference<Flow.Subscriber<? super O>> downstream;
+    private final Set<CompletableFuture<O>> running;
+    private final ConcurrentLinkedQueue<O> results;
+    private final AtomicReference<Throwable> error;
+    private final AtomicBoolean cancelled;
+    private final AtomicLong requested;
+    private final AtomicInteger inFlight;
+    private final AtomicInteger outstanding;
+    private final AtomicInteger wip;
+
+    // Variables
+    private volatile boolean done;
+    private boolean terminated;
+
+    // Constructor
+    public RequestProcessor(ExecutorService executor, int maxInFlight, Function<I, O> function) {
+
+        // Check Parameters
+        if (executor == null) throw new IllegalArgumentException("Executor must not be null");
+        if (maxInFlight < 1) throw new IllegalArgumentException("Max in flight must be positive");
+        if (function == null) throw new IllegalArgumentException("Function must not be null");
+
+        // Set Attributes
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.function = function;
+
+        // Init State
+        upstream = new AtomicReference<>();
+        downstream = new AtomicReference<>();
+        running = ConcurrentHashMap.newKeySet();
+        results = new ConcurrentLinkedQueue<>();
+        error = new AtomicReference<>();
+        cancelled = new AtomicBoolean();
+        requested = new AtomicLong();
+        inFlight = new AtomicInteger();
+        outstanding = new AtomicInteger();
+        wip = new AtomicInteger();
+    }
+
+    // Upstream
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (subscription == null) throw new NullPointerException("Subscription must not be null");
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (cancelled.get()) subscription.cancel();
+        else drain();
+    }
+
+    @Override
+    public void onNext(I item) {
+        if (item == null) throw new NullPointerException("Item must not be null");
+        if (cancelled.get() || error.get() != null) return;
+
+        // Count before releasing the Upstream Slot, so Demand is never overestimated
+        inFlight.incrementAndGet();
+        outstanding.decrementAndGet();
+
+        // Run Request
+        CompletableFuture<O> future;
+        try {
+            future = Execution.submit(executor, () -> function.apply(item));
+        } catch (RuntimeException e) {
+            fail(e);
+            inFlight.decrementAndGet();
+            drain();
+            return;
+        }
+        running.add(future);
+        future.whenComplete((result, throwable) -> {
+            running.remove(future);
+            if (throwable != null) fail(throwable);
+            else results.offer(result);
+            inFlight.decrementAndGet();
+            drain();
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        fail(throwable);
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    // Downstream, a single Subscriber is supported
+    @Override
+    public void subscribe(Flow.Subscriber<? super O> subscriber) {
+        if (subscriber == null) throw new NullPointerException("Subscriber must not be null");
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Processor supports only one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("Request must be positive"));
+                    drain();
+                    return;
+                }
+                requested.accumulateAndGet(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                if (!cancelled.compareAndSet(false, true)) return;
+                var subscription = upstream.get();
+                if (subscription != null) subscription.cancel();
+                for (var future : running) future.cancel(true);
+                drain();
+            }
+        });
+        drain();
+    }
+
+    // Record first Failure and stop Upstream and Requests
+    private void fail(Throwable throwable) {
+        if (!error.compareAndSet(null, throwable)) return;
+        var subscription = upstream.get();
+        if (subscription != null) subscription.cancel();
+        for (var future : running) future.cancel(true);
+    }
+
+    // Emit Results, terminate and request more, serialized across Threads
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+        var missed = 1;
+        do {
+            var subscriber = downstream.get();
+            if (subscriber != null && !terminated) {
+
+                // Check Cancellation
+                if (cancelled.get()) {
+                    results.clear();
+                    terminated = true;
+                    return;
+                }
+
+                // Check Failure
+                var throwable = error.get();
+                if (throwable != null) {
+                    results.clear();
+                    terminated = true;
+                    subscriber.onError(throwable);
+                    return;
+                }
+
+                // Emit Results
+                var demand = requested.get();
+                var emitted = 0L;
+                while (emitted != demand) {
+                    var result = results.poll();
+                    if (result == null) break;
+                    subscriber.onNext(result);
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) demand = requested.addAndGet(-emitted);
+
+                // Check Completion
+                if (done && inFlight.get() == 0 && results.isEmpty()) {
+                    terminated = true;
+                    subscriber.onComplete();
+                    return;
+                }
+
+                // Request Items within Demand and Max in Flight
+                var subscription = upstream.get();
+                if (subscription != null && !done) {
+                    var pending = (long) inFlight.get() + outstanding.get() + results.size();
+                    var want = Math.min(maxInFlight - pending, demand - pending);
+                    if (want > 0) {
+                        outstanding.addAndGet((int) want);
+                        subscription.request(want);
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    // Getter
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package de.MCmoderSD.openai.flow;
+
+import de.MCmoderSD.openai.core.RequestContext;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Supplier;
+
+// Cold Publisher, every Subscriber starts its own Producer, which blocks in submit while the Subscriber Buffer is full
+// Every Subscription gets its own Context, cancelling the Subscription cancels it and interrupts the Producer
+@SuppressWarnings("unused")
+public class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    // Attributes
+    private final ExecutorService executor;
+    private final int bufferSize;
+    private final Supplier<RequestContext> contexts;
+    private final Producer<T> producer;
+
+    // Constructor
+    public StreamPublisher(ExecutorService executor, int bufferSize, Supplier<RequestContext> contexts, Producer<T> producer) {
+
+        // Check Parameters
+        if (executor == null) throw new IllegalArgumentException("Executor must not be null");
+        if (bufferSize < 1) throw new IllegalArgumentException("Buffer size must be positive");
+        if (contexts == null) throw new IllegalArgumentException("Contexts must not be null");
+        if (producer == null) throw new IllegalArgumentException("Producer must not be null");
+
+        // Set Attributes
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.contexts = contexts;
+        this.producer = producer;
+    }
+
+    // Constructor, every Subscription gets a fresh Context
+    public StreamPublisher(ExecutorService executor, int bufferSize, Producer<T> producer) {
+        this(executor, bufferSize, RequestContext::create, producer);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) throw new NullPointerException("Subscriber must not be null");
+
+        // Producer Task, the Context is released once the Producer is done
+        var context = contexts.get();
+        var publisher = new SubmissionPublisher<T>(executor, bufferSize);
+        var task = new FutureTask<Void>(() -> {
+            try (context) {
+                producer.produce(publisher, context);
+                publisher.close();
+            } catch (Throwable e) {
+                publisher.closeExceptionally(e);
+            }
+            return null;
+        });
+
+        // Subscribe with Cancellation forwarded to the Context and the Producer
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        subscription.cancel();
+                        context.cancel();
+                        task.cancel(true);
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(T item) {
+                subscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+
+        // Start Producer
+        executor.execute(task);
+    }
+
+    // Pushes Items until done, should stop once the Publisher has no Subscribers left or the Context is cancelled
+    @FunctionalInterface
+    public interface Producer<T> {
+        void produce(SubmissionPublisher<T> publisher, RequestContext context) throws Exception;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package de.MCmoderSD.openai.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("unused")
+public class Histogram {
+
+    // Constants
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int LINEAR = SUB_COUNT << 1;
+    private static final int SIZE = LINEAR + (63 - SUB_BITS - 1) * SUB_COUNT;
+
+    // Attributes
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    // Constructor
+    public Histogram() {
+        buckets = new AtomicLongArray(SIZE);
+        count = new LongAdder();
+        sum = new LongAdder();
+        max = new AtomicLong();
+    }
+
+    // Record Value, lock-free
+    public void record(long value) {
+        if (value < 0) value = 0;
+        buckets.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get()) max.accumulateAndGet(value, Math::max);
+    }
+
+    // Value at Percentile, upper Bound of the matching Bucket
+    public long percentile(double percentile) {
+
+        // Check Percentile
+        if (percentile < 0 || percentile > 1) throw new IllegalArgumentException("Percentile must be between 0 and 1");
+
+        // Snapshot Total
+        var total = 0L;
+        for (var i = 0; i < SIZE; i++) total += buckets.get(i);
+        if (total == 0) return 0;
+
+        // Walk Buckets
+        var rank = Math.max(1, (long) Math.ceil(percentile * total));
+        var seen = 0L;
+        for (var i = 0; i < SIZE; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) return Math.min(upperBound(i), max.get());
+        }
+        return max.get();
+    }
+
+    // Reset all Values
+    public void reset() {
+        for (var i = 0; i < SIZE; i++) buckets.set(i, 0);
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    // Bucket Index, linear below 128 and 64 Sub-Buckets per Power of two above
+    private static int index(long value) {
+        if (value < LINEAR) return (int) value;
+        var magnitude = 63 - Long.numberOfLeadingZeros(value);
+        var sub = (int) (value >>> (magnitude - SUB_BITS)) - SUB_COUNT;
+        return LINEAR + (magnitude - SUB_BITS - 1) * SUB_COUNT + sub;
+    }
+
+    // Highest Value of a Bucket
+    private static long upperBound(int index) {
+        if (index < LINEAR) return index;
+        var magnitude = (index - LINEAR) / SUB_COUNT + SUB_BITS + 1;
+        var sub = (index - LINEAR) % SUB_COUNT + SUB_COUNT;
+        var shift = magnitude - SUB_BITS;
+        return ((long) sub << shift) + (1L << shift) - 1;
+    }
+
+    // Getter
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        var count = this.count.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+}
@@ -0,0 +1,76 @@
+package de.MCmoderSD.openai.metrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("unused")
+public class JmxExporter implements AutoCloseable {
+
+    // Constants
+    public static final String DOMAIN = "de.MCmoderSD.openai";
+
+    // Attributes
+    private final MBeanServer server;
+    private final ConcurrentHashMap<ObjectName, ModelMetrics> registered;
+    private final LongAdder failures;
+    private volatile Exception lastFailure;
+
+    // Constructor
+    public JmxExporter(MetricsRegistry registry, MBeanServer server) {
+
+        // Check Parameters
+        if (registry == null) throw new IllegalArgumentException("Registry must not be null");
+        if (server == null) throw new IllegalArgumentException("Server must not be null");
+
+        // Set Attributes
+        this.server = server;
+        registered = new ConcurrentHashMap<>();
+        failures = new LongAdder();
+
+        // Register existing and future Metrics
+        registry.addListener(this::register);
+    }
+
+    public JmxExporter(MetricsRegistry registry) {
+        this(registry, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    // Register MBean, runs on the Request Path, so Failures are counted instead of thrown
+    private void register(ModelMetrics metrics) {
+        ObjectName name = null;
+        try {
+            name = new ObjectName(DOMAIN + ":type=Metrics,service=" + ObjectName.quote(metrics.getService()) + ",model=" + ObjectName.quote(metrics.getModel()));
+            if (registered.putIfAbsent(name, metrics) == null && !server.isRegistered(name)) server.registerMBean(metrics, name);
+        } catch (Exception e) {
+            if (name != null) registered.remove(name, metrics);
+            failures.increment();
+            lastFailure = e;
+        }
+    }
+
+    // Getter
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    // Unregister all MBeans
+    @Override
+    public void close() {
+        for (var name : registered.keySet()) {
+            try {
+                if (server.isRegistered(name)) server.unregisterMBean(name);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to unregister metrics MBean: " + e.getMessage(), e);
+            } finally {
+                registered.remove(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package de.MCmoderSD.openai.metrics;
+
+import com.openai.errors.OpenAIServiceException;
+import de.MCmoderSD.openai.core.HttpStatusException;
+
+import java.math.BigDecimal;
+
+@SuppressWarnings("unused")
+public interface MetricsRecorder {
+
+    // No-op Recorder
+    MetricsRecorder NOOP = new MetricsRecorder() {
+
+        @Override
+        public void success(String service, String model, long nanos, long inputTokens, long outputTokens, long cachedTokens, long reasoningTokens, BigDecimal cost) {
+        }
+
+        @Override
+        public void failure(String service, String model, long nanos, int status) {
+        }
+    };
+
+    // Record successful Request
+    void success(String service, String model, long nanos, long inputTokens, long outputTokens, long cachedTokens, long reasoningTokens, BigDecimal cost);
+
+    // Record failed Request, Status 0 for Timeouts and IO Errors
+    void failure(String service, String model, long nanos, int status);
+
+    // Record Request served from a Cache or local Filter without an API Call
+    default void hit(String service, String model, long nanos) {
+    }
+
+    // Record failed Request from Exception
+    default void failure(String service, String model, long nanos, Throwable throwable) {
+        failure(service, model, nanos, status(throwable));
+    }
+
+    // HTTP Status of an Exception
+    static int status(Throwable throwable) {
+        while (throwable != null) {
+            if (throwable instanceof OpenAIServiceException exception) return exception.statusCode();
+            if (throwable instanceof HttpStatusException exception) return exception.getStatus();
+            throwable = throwable.getCause();
+        }
+        return 0;
+    }
+}
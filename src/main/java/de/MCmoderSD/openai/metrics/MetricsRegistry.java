@@ -0,0 +1,117 @@
+package de.MCmoderSD.openai.metrics;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+@SuppressWarnings("unused")
+public class MetricsRegistry implements MetricsRecorder {
+
+    // Attributes
+    private final ConcurrentHashMap<String, ModelMetrics> metrics;
+    private final CopyOnWriteArrayList<MetricsRecorder> recorders;
+    private final CopyOnWriteArrayList<Consumer<ModelMetrics>> listeners;
+    private final LongAdder errors;
+
+    // Constructor
+    public MetricsRegistry() {
+        metrics = new ConcurrentHashMap<>();
+        recorders = new CopyOnWriteArrayList<>();
+        listeners = new CopyOnWriteArrayList<>();
+        errors = new LongAdder();
+    }
+
+    // Recorders and Listeners run on the Request Path, their Failures are counted and never reach the Caller
+    @Override
+    public void success(String service, String model, long nanos, long inputTokens, long outputTokens, long cachedTokens, long reasoningTokens, BigDecimal cost) {
+        get(service, model).success(nanos, inputTokens, outputTokens, cachedTokens, reasoningTokens, cost);
+        for (var recorder : recorders) {
+            try {
+                recorder.success(service, model, nanos, inputTokens, outputTokens, cachedTokens, reasoningTokens, cost);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+        }
+    }
+
+    @Override
+    public void failure(String service, String model, long nanos, int status) {
+        get(service, model).failure(nanos, status);
+        for (var recorder : recorders) {
+            try {
+                recorder.failure(service, model, nanos, status);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+        }
+    }
+
+    @Override
+    public void hit(String service, String model, long nanos) {
+        get(service, model).hit();
+        for (var recorder : recorders) {
+            try {
+                recorder.hit(service, model, nanos);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+        }
+    }
+
+    // Get or create Metrics
+    public ModelMetrics get(String service, String model) {
+        var key = service + ':' + model;
+        var existing = metrics.get(key);
+        if (existing != null) return existing;
+        var created = new ModelMetrics(service, model);
+        existing = metrics.putIfAbsent(key, created);
+        if (existing != null) return existing;
+        for (var listener : listeners) {
+            try {
+                listener.accept(created);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+        }
+        return created;
+    }
+
+    // Forward Samples to another Recorder
+    public MetricsRegistry addRecorder(MetricsRecorder recorder) {
+        if (recorder == null) throw new IllegalArgumentException("Recorder must not be null");
+        recorders.add(recorder);
+        return this;
+    }
+
+    public MetricsRegistry removeRecorder(MetricsRecorder recorder) {
+        recorders.remove(recorder);
+        return this;
+    }
+
+    // Listen for new Metrics, called for existing Metrics immediately
+    public MetricsRegistry addListener(Consumer<ModelMetrics> listener) {
+        if (listener == null) throw new IllegalArgumentException("Listener must not be null");
+        listeners.add(listener);
+        for (var existing : metrics.values()) {
+            try {
+                listener.accept(existing);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+        }
+        return this;
+    }
+
+    // Getter
+    public Collection<ModelMetrics> getMetrics() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
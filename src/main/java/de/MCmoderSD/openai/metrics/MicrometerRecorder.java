@@ -0,0 +1,80 @@
+package de.MCmoderSD.openai.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("unused")
+public class MicrometerRecorder implements MetricsRecorder {
+
+    // Constants
+    public static final String PREFIX = "openai";
+
+    // Attributes
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Timer> timers;
+    private final ConcurrentHashMap<String, Counter> counters;
+
+    // Constructor
+    public MicrometerRecorder(MeterRegistry registry) {
+
+        // Check Registry
+        if (registry == null) throw new IllegalArgumentException("Registry must not be null");
+
+        // Set Attributes
+        this.registry = registry;
+        timers = new ConcurrentHashMap<>();
+        counters = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void success(String service, String model, long nanos, long inputTokens, long outputTokens, long cachedTokens, long reasoningTokens, BigDecimal cost) {
+        timer(service, model, "success", 200).record(nanos, TimeUnit.NANOSECONDS);
+        if (inputTokens > 0) tokens(service, model, "input").increment(inputTokens);
+        if (outputTokens > 0) tokens(service, model, "output").increment(outputTokens);
+        if (cachedTokens > 0) tokens(service, model, "cached").increment(cachedTokens);
+        if (reasoningTokens > 0) tokens(service, model, "reasoning").increment(reasoningTokens);
+        if (cost != null && cost.signum() != 0) cost(service, model).increment(cost.doubleValue());
+    }
+
+    @Override
+    public void failure(String service, String model, long nanos, int status) {
+        timer(service, model, "error", status).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void hit(String service, String model, long nanos) {
+        timer(service, model, "cache", 200).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Cached Meters
+    private Timer timer(String service, String model, String outcome, int status) {
+        return timers.computeIfAbsent(service + ':' + model + ':' + outcome + ':' + status, key -> Timer.builder(PREFIX + ".requests")
+                .tag("service", service)
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .tag("status", String.valueOf(status))
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private Counter tokens(String service, String model, String type) {
+        return counters.computeIfAbsent(service + ':' + model + ':' + type, key -> Counter.builder(PREFIX + ".tokens")
+                .tag("service", service)
+                .tag("model", model)
+                .tag("type", type)
+                .register(registry));
+    }
+
+    private Counter cost(String service, String model) {
+        return counters.computeIfAbsent(service + ':' + model + ":cost", key -> Counter.builder(PREFIX + ".cost")
+                .baseUnit("usd")
+                .tag("service", service)
+                .tag("model", model)
+                .register(registry));
+    }
+}
@@ -0,0 +1,184 @@
+package de.MCmoderSD.openai.metrics;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("unused")
+public class ModelMetrics implements ModelMetricsMXBean {
+
+    // Constants
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    // Identity
+    private final String service;
+    private final String model;
+    private final long createdAt;
+
+    // Latency
+    private final Histogram latency;
+
+    // Requests
+    private final LongAdder requests;
+    private final ConcurrentHashMap<Integer, LongAdder> errors;
+    private final LongAdder hits;
+
+    // Usage
+    private final LongAdder inputTokens;
+    private final LongAdder outputTokens;
+    private final LongAdder cachedTokens;
+    private final LongAdder reasoningTokens;
+    private final AtomicReference<BigDecimal> cost;
+
+    // Constructor
+    public ModelMetrics(String service, String model) {
+        this.service = service;
+        this.model = model;
+        createdAt = System.nanoTime();
+        latency = new Histogram();
+        requests = new LongAdder();
+        errors = new ConcurrentHashMap<>();
+        hits = new LongAdder();
+        inputTokens = new LongAdder();
+        outputTokens = new LongAdder();
+        cachedTokens = new LongAdder();
+        reasoningTokens = new LongAdder();
+        cost = new AtomicReference<>(BigDecimal.ZERO);
+    }
+
+    // Record successful Request
+    void success(long nanos, long inputTokens, long outputTokens, long cachedTokens, long reasoningTokens, BigDecimal cost) {
+        latency.record(nanos);
+        requests.increment();
+        this.inputTokens.add(inputTokens);
+        this.outputTokens.add(outputTokens);
+        this.cachedTokens.add(cachedTokens);
+        this.reasoningTokens.add(reasoningTokens);
+        if (cost != null && cost.signum() != 0) this.cost.accumulateAndGet(cost, BigDecimal::add);
+    }
+
+    // Record failed Request
+    void failure(long nanos, int status) {
+        latency.record(nanos);
+        requests.increment();
+        errors.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    // Record Cache Hit, kept apart from Requests and Latency so they describe API Calls only
+    void hit() {
+        hits.increment();
+    }
+
+    // Getter
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String getService() {
+        return service;
+    }
+
+    @Override
+    public String getModel() {
+        return model;
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        var sum = 0L;
+        for (var adder : errors.values()) sum += adder.sum();
+        return sum;
+    }
+
+    @Override
+    public Map<Integer, Long> getErrorsByStatus() {
+        var map = new TreeMap<Integer, Long>();
+        errors.forEach((status, adder) -> map.put(status, adder.sum()));
+        return map;
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return latency.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latency.getMax() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return latency.percentile(0.5) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP90Millis() {
+        return latency.percentile(0.9) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return latency.percentile(0.99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP999Millis() {
+        return latency.percentile(0.999) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getInputTokens() {
+        return inputTokens.sum();
+    }
+
+    @Override
+    public long getOutputTokens() {
+        return outputTokens.sum();
+    }
+
+    @Override
+    public long getCachedTokens() {
+        return cachedTokens.sum();
+    }
+
+    @Override
+    public long getReasoningTokens() {
+        return reasoningTokens.sum();
+    }
+
+    @Override
+    public double getInputTokenRate() {
+        return inputTokens.sum() / uptime();
+    }
+
+    @Override
+    public double getOutputTokenRate() {
+        return outputTokens.sum() / uptime();
+    }
+
+    @Override
+    public BigDecimal getCost() {
+        return cost.get();
+    }
+
+    // Seconds since Creation
+    private double uptime() {
+        return Math.max(System.nanoTime() - createdAt, 1) / NANOS_PER_SECOND;
+    }
+}
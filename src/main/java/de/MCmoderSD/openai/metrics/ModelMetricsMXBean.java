@@ -0,0 +1,35 @@
+package de.MCmoderSD.openai.metrics;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@SuppressWarnings("unused")
+public interface ModelMetricsMXBean {
+
+    // Identity
+    String getService();
+    String getModel();
+
+    // Requests
+    long getRequests();
+    long getErrors();
+    Map<Integer, Long> getErrorsByStatus();
+    long getHits();
+
+    // Latency in Milliseconds
+    double getMeanMillis();
+    double getMaxMillis();
+    double getP50Millis();
+    double getP90Millis();
+    double getP99Millis();
+    double getP999Millis();
+
+    // Usage
+    long getInputTokens();
+    long getOutputTokens();
+    long getCachedTokens();
+    long getReasoningTokens();
+    double getInputTokenRate();
+    double getOutputTokenRate();
+    BigDecimal getCost();
+}
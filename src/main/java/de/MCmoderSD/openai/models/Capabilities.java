@@ -0,0 +1,30 @@
+package de.MCmoderSD.openai.models;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+class Capabilities {
+
+    // Immutable EnumSet
+    static <E extends Enum<E>> Set<E> of(Class<E> type, Collection<E> values) {
+        var set = EnumSet.noneOf(type);
+        set.addAll(values);
+        return Collections.unmodifiableSet(set);
+    }
+
+    // Bitmask of Enum Ordinals
+    static <E extends Enum<E>> long mask(Collection<E> values) {
+        var mask = 0L;
+        for (var value : values) mask |= 1L << value.ordinal();
+        return mask;
+    }
+
+    // Check all Values
+    @SafeVarargs
+    static <E> boolean containsAll(Set<E> set, E... values) {
+        for (var value : values) if (!set.contains(value)) return false;
+        return true;
+    }
+}
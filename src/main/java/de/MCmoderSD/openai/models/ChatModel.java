@@ -6,8 +6,10 @@ import com.openai.models.ReasoningEffort;
 import de.MCmoderSD.openai.enums.Tool;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 
 import static com.openai.models.ReasoningEffort.*;
 import static de.MCmoderSD.openai.enums.Modality.*;
@@ -226,18 +228,24 @@ public enum ChatModel {
             32_768
     );
 
+    // Index
+    private static final ModelIndex<ChatModel> INDEX = new ModelIndex<>(values(), ChatModel::getName);
+    private static final ChatModel[] BY_PRICE = sortByPrice();
+
     // Attributes
     private final Speed speed;
     private final BigDecimal inputPrice;
     private final BigDecimal outputPrice;
-    private final HashSet<Modality> input;
-    private final HashSet<Modality> output;
-    private final HashSet<ReasoningEffort> reasoning;
-    private final HashSet<Tool> tool;
+    private final Set<Modality> input;
+    private final Set<Modality> output;
+    private final Set<ReasoningEffort> reasoning;
+    private final Set<Tool> tool;
     private final long contextWindow;
     private final long maxOutputTokens;
     private final String name;
     private final com.openai.models.ChatModel model;
+    private final long inputMask;
+    private final long toolMask;
 
     // Constructor
     ChatModel(
@@ -263,10 +271,12 @@ public enum ChatModel {
         this.outputPrice = BigDecimal.valueOf(outputPrice).movePointLeft(8);
 
         // Set Modalities and Capabilities
-        this.input = new HashSet<>(input);
-        this.output = new HashSet<>(output);
-        this.reasoning = new HashSet<>(reasoning);
-        this.tool = new HashSet<>(tool);
+        this.input = Capabilities.of(Modality.class, input);
+        this.output = Capabilities.of(Modality.class, output);
+        this.reasoning = Set.copyOf(reasoning);
+        this.tool = Capabilities.of(Tool.class, tool);
+        this.inputMask = Capabilities.mask(input);
+        this.toolMask = Capabilities.mask(tool);
 
         // Parse Model
         this.model = com.openai.models.ChatModel.of(name());
@@ -293,19 +303,19 @@ public enum ChatModel {
         return speed;
     }
 
-    public HashSet<Modality> getInput() {
+    public Set<Modality> getInput() {
         return input;
     }
 
-    public HashSet<Modality> getOutput() {
+    public Set<Modality> getOutput() {
         return output;
     }
 
-    public HashSet<ReasoningEffort> getReasoning() {
+    public Set<ReasoningEffort> getReasoning() {
         return reasoning;
     }
 
-    public HashSet<Tool> getTool() {
+    public Set<Tool> getTool() {
         return tool;
     }
 
@@ -317,20 +327,48 @@ public enum ChatModel {
         return maxOutputTokens;
     }
 
+    public boolean hasInput(Modality modality) {
+        return input.contains(modality);
+    }
+
     public boolean hasInput(Modality... modality) {
-        return input.containsAll(of(modality));
+        return Capabilities.containsAll(input, modality);
+    }
+
+    public boolean hasOutput(Modality modality) {
+        return output.contains(modality);
     }
 
     public boolean hasOutput(Modality... modality) {
-        return output.containsAll(of(modality));
+        return Capabilities.containsAll(output, modality);
+    }
+
+    public boolean hasReasoning(ReasoningEffort reasoningEffort) {
+        return reasoning.contains(reasoningEffort);
     }
 
     public boolean hasReasoning(ReasoningEffort... reasoningEffort) {
-        return reasoning.containsAll(of(reasoningEffort));
+        return Capabilities.containsAll(reasoning, reasoningEffort);
+    }
+
+    public boolean hasTool(Tool tool) {
+        return this.tool.contains(tool);
     }
 
     public boolean hasTool(Tool... tool) {
-        return this.tool.containsAll(of(tool));
+        return Capabilities.containsAll(this.tool, tool);
+    }
+
+    public boolean supports(long inputMask, long toolMask) {
+        return (this.inputMask & inputMask) == inputMask && (this.toolMask & toolMask) == toolMask;
+    }
+
+    public long getInputMask() {
+        return inputMask;
+    }
+
+    public long getToolMask() {
+        return toolMask;
     }
 
     public BigDecimal getInputCost(long tokens) {
@@ -343,8 +381,22 @@ public enum ChatModel {
 
     // Static Methods
     public static ChatModel getModel(String name) {
-        name = name.replaceAll("-\\d{4}-\\d{2}-\\d{2}", "").toLowerCase().trim();
-        for (var model : ChatModel.values()) if (model.getName().equalsIgnoreCase(name)) return model;
-        throw new IllegalArgumentException("Invalid model name: " + name);
+        return INDEX.get(name);
+    }
+
+    public static ChatModel cheapest(Set<Modality> input, Set<Tool> tool) {
+        return cheapest(Capabilities.mask(input), Capabilities.mask(tool));
+    }
+
+    public static ChatModel cheapest(long inputMask, long toolMask) {
+        for (var model : BY_PRICE) if (model.supports(inputMask, toolMask)) return model;
+        return null;
+    }
+
+    // Helper Method
+    private static ChatModel[] sortByPrice() {
+        var models = values();
+        Arrays.sort(models, Comparator.comparing((ChatModel model) -> model.inputPrice.add(model.outputPrice)).thenComparing(ChatModel::getSpeed, Comparator.reverseOrder()));
+        return models;
     }
 }
\ No newline at end of file
@@ -5,8 +5,8 @@ import de.MCmoderSD.openai.enums.Speed;
 import de.MCmoderSD.openai.enums.Modality;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static de.MCmoderSD.openai.enums.Performance.*;
 import static de.MCmoderSD.openai.enums.Speed.*;
@@ -40,12 +40,15 @@ public enum EmbeddingModel {
             of(TEXT)    // Supported Output Modalities
     );
 
+    // Index
+    private static final ModelIndex<EmbeddingModel> INDEX = new ModelIndex<>(values(), EmbeddingModel::getName);
+
     // Attributes
     private final Performance performance;
     private final Speed speed;
     private final BigDecimal price;
-    private final HashSet<Modality> input;
-    private final HashSet<Modality> output;
+    private final Set<Modality> input;
+    private final Set<Modality> output;
     private final String name;
     private final com.openai.models.embeddings.EmbeddingModel model;
 
@@ -65,8 +68,8 @@ public enum EmbeddingModel {
         this.price = BigDecimal.valueOf(CPMT).movePointLeft(8);
 
         // Set Modalities
-        this.input = new HashSet<>(input);
-        this.output = new HashSet<>(output);
+        this.input = Capabilities.of(Modality.class, input);
+        this.output = Capabilities.of(Modality.class, output);
 
         // Parse Name
         this.name = name().toLowerCase().replace('_', '-');
@@ -96,20 +99,28 @@ public enum EmbeddingModel {
         return speed;
     }
 
-    public HashSet<Modality> getInput() {
+    public Set<Modality> getInput() {
         return input;
     }
 
-    public HashSet<Modality> getOutput() {
+    public Set<Modality> getOutput() {
         return output;
     }
 
+    public boolean hasInput(Modality modality) {
+        return input.contains(modality);
+    }
+
     public boolean hasInput(Modality... modality) {
-        return input.containsAll(of(modality));
+        return Capabilities.containsAll(input, modality);
+    }
+
+    public boolean hasOutput(Modality modality) {
+        return output.contains(modality);
     }
 
     public boolean hasOutput(Modality... modality) {
-        return output.containsAll(of(modality));
+        return Capabilities.containsAll(output, modality);
     }
 
     public BigDecimal getCost(long tokens) {
@@ -118,7 +129,6 @@ public enum EmbeddingModel {
 
     // Static Methods
     public static EmbeddingModel getModel(String name) {
-        for (var model : EmbeddingModel.values()) if (model.getName().equalsIgnoreCase(name)) return model;
-        throw new IllegalArgumentException("Invalid model name: " + name);
+        return INDEX.get(name);
     }
 }
\ No newline at end of file
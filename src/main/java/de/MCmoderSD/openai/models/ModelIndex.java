@@ -0,0 +1,53 @@
+package de.MCmoderSD.openai.models;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+class ModelIndex<T extends Enum<T>> {
+
+    // Constants
+    private static final int MAX_ALIASES = 256;
+
+    // Attributes
+    private final ConcurrentHashMap<String, T> index;
+    private final ConcurrentHashMap<String, T> aliases;
+
+    // Constructor
+    ModelIndex(T[] values, Function<T, String> name) {
+        index = new ConcurrentHashMap<>(values.length * 2);
+        aliases = new ConcurrentHashMap<>();
+        for (var value : values) index.put(name.apply(value), value);
+    }
+
+    // Lookup Model by plain or dated Snapshot Name
+    // Resolved Spellings are remembered up to a fixed Bound, so arbitrary Caller Input can't grow the Cache
+    T get(String name) {
+
+        // Check Name
+        if (name == null) throw new IllegalArgumentException("Invalid model name: null");
+
+        // Exact Match
+        var model = index.get(name);
+        if (model == null) model = aliases.get(name);
+        if (model != null) return model;
+
+        // Normalized Match
+        var normalized = name.trim().toLowerCase(Locale.ROOT);
+        model = index.get(normalized);
+        if (model == null && isSnapshot(normalized)) model = index.get(normalized.substring(0, normalized.length() - 11));
+        if (model == null) throw new IllegalArgumentException("Invalid model name: " + name);
+
+        // Remember Spelling
+        if (aliases.size() < MAX_ALIASES) aliases.putIfAbsent(name, model);
+        return model;
+    }
+
+    // Check for a "-YYYY-MM-DD" Suffix
+    private static boolean isSnapshot(String name) {
+        var offset = name.length() - 11;
+        if (offset < 1 || name.charAt(offset) != '-' || name.charAt(offset + 5) != '-' || name.charAt(offset + 8) != '-') return false;
+        for (var i = offset + 1; i < name.length(); i++) if (i != offset + 5 && i != offset + 8 && (name.charAt(i) < '0' || name.charAt(i) > '9')) return false;
+        return true;
+    }
+}
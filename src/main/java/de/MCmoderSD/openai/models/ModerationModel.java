@@ -4,8 +4,8 @@ import de.MCmoderSD.openai.enums.Performance;
 import de.MCmoderSD.openai.enums.Speed;
 import de.MCmoderSD.openai.enums.Modality;
 
-import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static de.MCmoderSD.openai.enums.Performance.*;
 import static de.MCmoderSD.openai.enums.Speed.*;
@@ -43,11 +43,14 @@ public enum ModerationModel {
             of(TEXT)            // Supported Output Modalities
     );
 
+    // Index
+    private static final ModelIndex<ModerationModel> INDEX = new ModelIndex<>(values(), ModerationModel::getName);
+
     // Attributes
     private final Performance performance;
     private final Speed speed;
-    private final HashSet<Modality> input;
-    private final HashSet<Modality> output;
+    private final Set<Modality> input;
+    private final Set<Modality> output;
     private final String name;
     private final com.openai.models.moderations.ModerationModel model;
 
@@ -63,8 +66,8 @@ public enum ModerationModel {
         this.speed = speed;
 
         // Set Modalities
-        this.input = new HashSet<>(input);
-        this.output = new HashSet<>(output);
+        this.input = Capabilities.of(Modality.class, input);
+        this.output = Capabilities.of(Modality.class, output);
 
         // Parse Name
         this.name = name().toLowerCase().replace('_', '-');
@@ -90,25 +93,32 @@ public enum ModerationModel {
         return speed;
     }
 
-    public HashSet<Modality> getInput() {
+    public Set<Modality> getInput() {
         return input;
     }
 
-    public HashSet<Modality> getOutput() {
+    public Set<Modality> getOutput() {
         return output;
     }
 
+    public boolean hasInput(Modality modality) {
+        return input.contains(modality);
+    }
+
     public boolean hasInput(Modality... modality) {
-        return input.containsAll(of(modality));
+        return Capabilities.containsAll(input, modality);
+    }
+
+    public boolean hasOutput(Modality modality) {
+        return output.contains(modality);
     }
 
     public boolean hasOutput(Modality... modality) {
-        return output.containsAll(of(modality));
+        return Capabilities.containsAll(output, modality);
     }
 
     // Static Methods
     public static ModerationModel getModel(String name) {
-        for (var model : ModerationModel.values()) if (model.getName().equalsIgnoreCase(name)) return model;
-        throw new IllegalArgumentException("Invalid model name: " + name);
+        return INDEX.get(name);
     }
 }
\ No newline at end of file
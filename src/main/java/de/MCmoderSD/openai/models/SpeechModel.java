@@ -6,8 +6,8 @@ import de.MCmoderSD.openai.enums.Modality;
 import de.MCmoderSD.openai.enums.Voice;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static de.MCmoderSD.openai.enums.Performance.*;
 import static de.MCmoderSD.openai.enums.Speed.*;
@@ -23,8 +23,9 @@ public enum SpeechModel {
             FAST,       // Speed
             15_00,      // Cent Per Million Tokens
             of(TEXT),   // Supported Input Modalities
-            of(AUDIO),   // Supported Output Modalities
-            of(ALLOY, ASH, CORAL, ECHO, FABLE, ONYX, NOVA, SAGE, SHIMMER)
+            of(AUDIO),  // Supported Output Modalities
+            of(ALLOY, ASH, CORAL, ECHO, FABLE, ONYX, NOVA, SAGE, SHIMMER),
+            4096        // Max Input Characters
     ),
 
     TTS_1_HD(
@@ -33,7 +34,8 @@ public enum SpeechModel {
             30_00,      // Cent Per Million Tokens
             of(TEXT),   // Supported Input Modalities
             of(AUDIO),  // Supported Output Modalities
-            of(ALLOY, ASH, CORAL, ECHO, FABLE, ONYX, NOVA, SAGE, SHIMMER)
+            of(ALLOY, ASH, CORAL, ECHO, FABLE, ONYX, NOVA, SAGE, SHIMMER),
+            4096        // Max Input Characters
     ),
 
     GPT_4O_MINI_TTS(
@@ -42,16 +44,21 @@ public enum SpeechModel {
             12_00,      // Cent Per Million Tokens
             of(TEXT),   // Supported Input Modalities
             of(AUDIO),  // Supported Output Modalities
-            of(ALLOY, ASH, BALLAD, CORAL, ECHO, FABLE, NOVA, ONYX, SAGE, SHIMMER, VERSE, MARIN, CEDAR)
+            of(ALLOY, ASH, BALLAD, CORAL, ECHO, FABLE, NOVA, ONYX, SAGE, SHIMMER, VERSE, MARIN, CEDAR),
+            4096        // Max Input Characters
     );
 
+    // Index
+    private static final ModelIndex<SpeechModel> INDEX = new ModelIndex<>(values(), SpeechModel::getName);
+
     // Attributes
     private final Performance performance;
     private final Speed speed;
     private final BigDecimal price;
-    private final HashSet<Modality> input;
-    private final HashSet<Modality> output;
-    private final HashSet<Voice> voices;
+    private final Set<Modality> input;
+    private final Set<Modality> output;
+    private final Set<Voice> voices;
+    private final int maxInput;
     private final String name;
     private final com.openai.models.audio.speech.SpeechModel model;
 
@@ -62,7 +69,8 @@ public enum SpeechModel {
             int CPMT,                   // Cent Per Million Tokens
             List<Modality> input,       // Supported Input Modalities
             List<Modality> output,      // Supported Output Modalities
-            List<Voice> voices          // Supported Voices
+            List<Voice> voices,         // Supported Voices
+            int maxInput                // Max Input Characters
     ) {
         // Set Attributes
         this.performance = performance;
@@ -72,11 +80,14 @@ public enum SpeechModel {
         this.price = BigDecimal.valueOf(CPMT).movePointLeft(8);
 
         // Set Modalities
-        this.input = new HashSet<>(input);
-        this.output = new HashSet<>(output);
+        this.input = Capabilities.of(Modality.class, input);
+        this.output = Capabilities.of(Modality.class, output);
 
         // Set Voices
-        this.voices = new HashSet<>(voices);
+        this.voices = Capabilities.of(Voice.class, voices);
+
+        // Set Input Limit
+        this.maxInput = maxInput;
 
         // Parse Name
         this.name = name().toLowerCase().replace('_', '-');
@@ -106,28 +117,44 @@ public enum SpeechModel {
         return speed;
     }
 
-    public HashSet<Modality> getInput() {
+    public Set<Modality> getInput() {
         return input;
     }
 
-    public HashSet<Modality> getOutput() {
+    public Set<Modality> getOutput() {
         return output;
     }
 
-    public HashSet<Voice> getVoices() {
+    public Set<Voice> getVoices() {
         return voices;
     }
 
+    public int getMaxInput() {
+        return maxInput;
+    }
+
+    public boolean hasInput(Modality modality) {
+        return input.contains(modality);
+    }
+
     public boolean hasInput(Modality... modality) {
-        return input.containsAll(of(modality));
+        return Capabilities.containsAll(input, modality);
+    }
+
+    public boolean hasOutput(Modality modality) {
+        return output.contains(modality);
     }
 
     public boolean hasOutput(Modality... modality) {
-        return output.containsAll(of(modality));
+        return Capabilities.containsAll(output, modality);
+    }
+
+    public boolean hasVoice(Voice voice) {
+        return voices.contains(voice);
     }
 
     public boolean hasVoice(Voice... voice) {
-        return voices.containsAll(of(voice));
+        return Capabilities.containsAll(voices, voice);
     }
 
     public BigDecimal getCost(long tokens) {
@@ -136,8 +163,6 @@ public enum SpeechModel {
 
     // Static Methods
     public static SpeechModel getModel(String name) {
-        name = name.replaceAll("-\\d{4}-\\d{2}-\\d{2}", "").toLowerCase().trim();
-        for (var model : SpeechModel.values()) if (model.getName().equalsIgnoreCase(name)) return model;
-        throw new IllegalArgumentException("Invalid model name: " + name);
+        return INDEX.get(name);
     }
 }
\ No newline at end of file
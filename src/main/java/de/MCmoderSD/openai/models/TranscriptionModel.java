@@ -0,0 +1,155 @@
+package de.MCmoderSD.openai.models;
+
+import de.MCmoderSD.openai.enums.Performance;
+import de.MCmoderSD.openai.enums.Speed;
+import de.MCmoderSD.openai.enums.Modality;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static de.MCmoderSD.openai.enums.Performance.*;
+import static de.MCmoderSD.openai.enums.Speed.*;
+import static de.MCmoderSD.openai.enums.Modality.*;
+import static java.math.RoundingMode.HALF_UP;
+import static java.util.List.of;
+
+@SuppressWarnings("unused")
+public enum TranscriptionModel {
+
+    GPT_4O_TRANSCRIBE(
+            HIGHER,     // Performance
+            MEDIUM,     // Speed
+            36,         // Cent Per Hour
+            of(AUDIO),  // Supported Input Modalities
+            of(TEXT),   // Supported Output Modalities
+            false,      // Supports Timestamps
+            true        // Supports Streaming
+    ),
+
+    GPT_4O_MINI_TRANSCRIBE(
+            HIGH,       // Performance
+            FAST,       // Speed
+            18,         // Cent Per Hour
+            of(AUDIO),  // Supported Input Modalities
+            of(TEXT),   // Supported Output Modalities
+            false,      // Supports Timestamps
+            true        // Supports Streaming
+    ),
+
+    WHISPER_1(
+            AVERAGE,    // Performance
+            MEDIUM,     // Speed
+            36,         // Cent Per Hour
+            of(AUDIO),  // Supported Input Modalities
+            of(TEXT),   // Supported Output Modalities
+            true,       // Supports Timestamps
+            false       // Supports Streaming
+    );
+
+    // Index
+    private static final ModelIndex<TranscriptionModel> INDEX = new ModelIndex<>(values(), TranscriptionModel::getName);
+
+    // Attributes
+    private final Performance performance;
+    private final Speed speed;
+    private final BigDecimal price;
+    private final Set<Modality> input;
+    private final Set<Modality> output;
+    private final boolean timestamps;
+    private final boolean streaming;
+    private final String name;
+    private final com.openai.models.audio.AudioModel model;
+
+    // Constructor
+    TranscriptionModel(
+            Performance performance,    // Performance
+            Speed speed,                // Speed
+            int CPH,                    // Cent Per Hour
+            List<Modality> input,       // Supported Input Modalities
+            List<Modality> output,      // Supported Output Modalities
+            boolean timestamps,         // Supports Timestamps
+            boolean streaming           // Supports Streaming
+    ) {
+        // Set Attributes
+        this.performance = performance;
+        this.speed = speed;
+        this.timestamps = timestamps;
+        this.streaming = streaming;
+
+        // Calculate Cost per Minute
+        this.price = BigDecimal.valueOf(CPH).movePointLeft(2).divide(BigDecimal.valueOf(60), 8, HALF_UP);
+
+        // Set Modalities
+        this.input = Capabilities.of(Modality.class, input);
+        this.output = Capabilities.of(Modality.class, output);
+
+        // Parse Name
+        this.name = name().toLowerCase().replace('_', '-');
+
+        // Parse Model
+        this.model = com.openai.models.audio.AudioModel.of(name);
+    }
+
+    // Getter
+    public com.openai.models.audio.AudioModel getModel() {
+        return model;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public Performance getPerformance() {
+        return performance;
+    }
+
+    public Speed getSpeed() {
+        return speed;
+    }
+
+    public Set<Modality> getInput() {
+        return input;
+    }
+
+    public Set<Modality> getOutput() {
+        return output;
+    }
+
+    public boolean hasTimestamps() {
+        return timestamps;
+    }
+
+    public boolean hasStreaming() {
+        return streaming;
+    }
+
+    public boolean hasInput(Modality modality) {
+        return input.contains(modality);
+    }
+
+    public boolean hasInput(Modality... modality) {
+        return Capabilities.containsAll(input, modality);
+    }
+
+    public boolean hasOutput(Modality modality) {
+        return output.contains(modality);
+    }
+
+    public boolean hasOutput(Modality... modality) {
+        return Capabilities.containsAll(output, modality);
+    }
+
+    public BigDecimal getCost(long minutes) {
+        return price.multiply(BigDecimal.valueOf(minutes));
+    }
+
+    // Static Methods
+    public static TranscriptionModel getModel(String name) {
+        return INDEX.get(name);
+    }
+}
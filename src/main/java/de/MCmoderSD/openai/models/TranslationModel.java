@@ -5,8 +5,8 @@ import de.MCmoderSD.openai.enums.Speed;
 import de.MCmoderSD.openai.enums.Modality;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static de.MCmoderSD.openai.enums.Performance.*;
 import static de.MCmoderSD.openai.enums.Speed.*;
@@ -25,12 +25,15 @@ public enum TranslationModel {
             of(TEXT)    // Supported Output Modalities
     );
 
+    // Index
+    private static final ModelIndex<TranslationModel> INDEX = new ModelIndex<>(values(), TranslationModel::getName);
+
     // Attributes
     private final Performance performance;
     private final Speed speed;
     private final BigDecimal price;
-    private final HashSet<Modality> input;
-    private final HashSet<Modality> output;
+    private final Set<Modality> input;
+    private final Set<Modality> output;
     private final String name;
     private final com.openai.models.audio.AudioModel model;
 
@@ -50,8 +53,8 @@ public enum TranslationModel {
         this.price = BigDecimal.valueOf(CPH).movePointLeft(2).divide(BigDecimal.valueOf(60), 8, HALF_UP);
 
         // Set Modalities
-        this.input = new HashSet<>(input);
-        this.output = new HashSet<>(output);
+        this.input = Capabilities.of(Modality.class, input);
+        this.output = Capabilities.of(Modality.class, output);
 
         // Parse Name
         this.name = name().toLowerCase().replace('_', '-');
@@ -81,20 +84,28 @@ public enum TranslationModel {
         return speed;
     }
 
-    public HashSet<Modality> getInput() {
+    public Set<Modality> getInput() {
         return input;
     }
 
-    public HashSet<Modality> getOutput() {
+    public Set<Modality> getOutput() {
         return output;
     }
 
+    public boolean hasInput(Modality modality) {
+        return input.contains(modality);
+    }
+
     public boolean hasInput(Modality... modality) {
-        return input.containsAll(of(modality));
+        return Capabilities.containsAll(input, modality);
+    }
+
+    public boolean hasOutput(Modality modality) {
+        return output.contains(modality);
     }
 
     public boolean hasOutput(Modality... modality) {
-        return output.containsAll(of(modality));
+        return Capabilities.containsAll(output, modality);
     }
 
     public BigDecimal getCost(long tokens) {
@@ -103,7 +114,6 @@ public enum TranslationModel {
 
     // Static Methods
     public static TranslationModel getModel(String name) {
-        for (var model : TranslationModel.values()) if (model.getName().equalsIgnoreCase(name)) return model;
-        throw new IllegalArgumentException("Invalid model name: " + name);
+        return INDEX.get(name);
     }
 }
\ No newline at end of file
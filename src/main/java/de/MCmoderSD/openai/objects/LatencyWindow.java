@@ -0,0 +1,93 @@
+package de.MCmoderSD.openai.objects;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+@SuppressWarnings("unused")
+public class LatencyWindow {
+
+    // Attributes
+    private final long[] samples;
+
+    // Variables
+    private int index;
+    private int count;
+    private long recorded;
+
+    // Cached Percentile
+    private double cachedPercentile;
+    private long cachedValue;
+    private long cachedAt;
+
+    // Constructor
+    public LatencyWindow(int size) {
+
+        // Check Size
+        if (size < 1) throw new IllegalArgumentException("Size must be positive");
+
+        // Set Attributes
+        samples = new long[size];
+        cachedPercentile = -1;
+    }
+
+    // Record Sample in Nanoseconds
+    public synchronized void record(long nanos) {
+        samples[index] = nanos;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) count++;
+        recorded++;
+    }
+
+    // Percentile in Nanoseconds, -1 if empty
+    public long percentile(double percentile) {
+
+        // Check Percentile
+        if (percentile < 0 || percentile > 1) throw new IllegalArgumentException("Percentile must be between 0 and 1");
+
+        // Copy Samples
+        long[] sorted;
+        synchronized (this) {
+            if (count == 0) return -1;
+            sorted = Arrays.copyOf(samples, count);
+        }
+
+        // Nearest Rank
+        Arrays.sort(sorted);
+        var rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, rank)];
+    }
+
+    // Percentile in Nanoseconds, copied and sorted at most once every given Number of Samples
+    public long percentile(double percentile, int refresh) {
+
+        // Check Cache
+        long at;
+        synchronized (this) {
+            if (percentile == cachedPercentile && recorded - cachedAt < refresh) return cachedValue;
+            at = recorded;
+        }
+
+        // Refresh Cache
+        var value = percentile(percentile);
+        synchronized (this) {
+            cachedPercentile = percentile;
+            cachedValue = value;
+            cachedAt = at;
+        }
+        return value;
+    }
+
+    public Duration getPercentile(double percentile) {
+        var nanos = percentile(percentile);
+        return nanos < 0 ? Duration.ZERO : Duration.ofNanos(nanos);
+    }
+
+    // Getter
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public int getSize() {
+        return samples.length;
+    }
+}
\ No newline at end of file
@@ -2,58 +2,86 @@ package de.MCmoderSD.openai.objects;
 
 import com.openai.models.moderations.Moderation;
 
+import de.MCmoderSD.openai.enums.Category;
+
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
+import static de.MCmoderSD.openai.enums.Category.*;
 import static de.MCmoderSD.openai.objects.Rating.Data.*;
 
 @SuppressWarnings("unused")
 public class Rating implements Serializable {
 
+    // Constants
+    public static final int BYTES = Byte.BYTES + Short.BYTES + COUNT * Double.BYTES;
+    private static final Category[] CATEGORIES = Category.values();
+
     // Type
     private final boolean flagged;
 
     // Flags
-    private final Flag harassment;
-    private final Flag harassmentThreatening;
-    private final Flag hate;
-    private final Flag hateThreatening;
-    private final Flag illicit;
-    private final Flag illicitViolent;
-    private final Flag selfHarm;
-    private final Flag selfHarmInstructions;
-    private final Flag selfHarmIntent;
-    private final Flag sexual;
-    private final Flag sexualMinors;
-    private final Flag violence;
-    private final Flag violenceGraphic;
+    private final int flags;
+    private final double[] scores;
 
     // Constructor
     public Rating(Moderation moderation) {
 
         // Extract Data
-        var flags = moderation.categories();
-        var scores = moderation.categoryScores();
+        var categories = moderation.categories();
+        var categoryScores = moderation.categoryScores();
 
         // Set Type
         flagged = moderation.flagged();
 
         // Set Flags
-        harassment = new Flag(flags.harassment(), scores.harassment());
-        harassmentThreatening = new Flag(flags.harassmentThreatening(), scores.harassmentThreatening());
-        hate = new Flag(flags.hate(), scores.hate());
-        hateThreatening = new Flag(flags.hateThreatening(), scores.hateThreatening());
-        illicit = new Flag(flags.illicit().orElse(false), flags.illicit().isPresent() ? scores.illicit() : 0d);
-        illicitViolent = new Flag(flags.illicitViolent().orElse(false), flags.illicitViolent().isPresent() ? scores.illicitViolent() : 0d);
-        selfHarm = new Flag(flags.selfHarm(), scores.selfHarm());
-        selfHarmInstructions = new Flag(flags.selfHarmInstructions(), scores.selfHarmInstructions());
-        selfHarmIntent = new Flag(flags.selfHarmIntent(), scores.selfHarmIntent());
-        sexual = new Flag(flags.sexual(), scores.sexual());
-        sexualMinors = new Flag(flags.sexualMinors(), scores.sexualMinors());
-        violence = new Flag(flags.violence(), scores.violence());
-        violenceGraphic = new Flag(flags.violenceGraphic(), scores.violenceGraphic());
+        var mask = 0;
+        if (categories.harassment()) mask |= HARASSMENT.getMask();
+        if (categories.harassmentThreatening()) mask |= HARASSMENT_THREATENING.getMask();
+        if (categories.hate()) mask |= HATE.getMask();
+        if (categories.hateThreatening()) mask |= HATE_THREATENING.getMask();
+        if (categories.illicit().orElse(false)) mask |= ILLICIT.getMask();
+        if (categories.illicitViolent().orElse(false)) mask |= ILLICIT_VIOLENT.getMask();
+        if (categories.selfHarm()) mask |= SELF_HARM.getMask();
+        if (categories.selfHarmInstructions()) mask |= SELF_HARM_INSTRUCTIONS.getMask();
+        if (categories.selfHarmIntent()) mask |= SELF_HARM_INTENT.getMask();
+        if (categories.sexual()) mask |= SEXUAL.getMask();
+        if (categories.sexualMinors()) mask |= SEXUAL_MINORS.getMask();
+        if (categories.violence()) mask |= VIOLENCE.getMask();
+        if (categories.violenceGraphic()) mask |= VIOLENCE_GRAPHIC.getMask();
+        flags = mask;
+
+        // Set Scores
+        scores = new double[COUNT];
+        scores[HARASSMENT.ordinal()] = categoryScores.harassment();
+        scores[HARASSMENT_THREATENING.ordinal()] = categoryScores.harassmentThreatening();
+        scores[HATE.ordinal()] = categoryScores.hate();
+        scores[HATE_THREATENING.ordinal()] = categoryScores.hateThreatening();
+        scores[ILLICIT.ordinal()] = categories.illicit().isPresent() ? categoryScores.illicit() : 0d;
+        scores[ILLICIT_VIOLENT.ordinal()] = categories.illicitViolent().isPresent() ? categoryScores.illicitViolent() : 0d;
+        scores[SELF_HARM.ordinal()] = categoryScores.selfHarm();
+        scores[SELF_HARM_INSTRUCTIONS.ordinal()] = categoryScores.selfHarmInstructions();
+        scores[SELF_HARM_INTENT.ordinal()] = categoryScores.selfHarmIntent();
+        scores[SEXUAL.ordinal()] = categoryScores.sexual();
+        scores[SEXUAL_MINORS.ordinal()] = categoryScores.sexualMinors();
+        scores[VIOLENCE.ordinal()] = categoryScores.violence();
+        scores[VIOLENCE_GRAPHIC.ordinal()] = categoryScores.violenceGraphic();
+    }
+
+    // Compact Constructor
+    public Rating(boolean flagged, int flags, double[] scores) {
+
+        // Check Parameters
+        if (scores == null || scores.length != COUNT) throw new IllegalArgumentException("Scores must contain exactly " + COUNT + " values");
+        if ((flags & ~((1 << COUNT) - 1)) != 0) throw new IllegalArgumentException("Flags contain unknown categories");
+
+        // Set Attributes
+        this.flagged = flagged;
+        this.flags = flags;
+        this.scores = scores.clone();
     }
 
     // Flag Record
@@ -68,81 +96,132 @@ public class Rating implements Serializable {
         return flagged;
     }
 
+    public boolean isFlagged(Category category) {
+        return (flags & category.getMask()) != 0;
+    }
+
+    public double getScore(Category category) {
+        return scores[category.ordinal()];
+    }
+
+    double getScore(int index) {
+        return scores[index];
+    }
+
+    public Flag getFlag(Category category) {
+        return new Flag(isFlagged(category), getScore(category));
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public double[] getScores() {
+        return scores.clone();
+    }
+
     // Flags
     public Flag getHarassment() {
-        return harassment;
+        return getFlag(HARASSMENT);
     }
 
     public Flag getHarassmentThreatening() {
-        return harassmentThreatening;
+        return getFlag(HARASSMENT_THREATENING);
     }
 
     public Flag getHate() {
-        return hate;
+        return getFlag(HATE);
     }
 
     public Flag getHateThreatening() {
-        return hateThreatening;
+        return getFlag(HATE_THREATENING);
     }
 
     public Flag getIllicit() {
-        return illicit;
+        return getFlag(ILLICIT);
     }
 
     public Flag getIllicitViolent() {
-        return illicitViolent;
+        return getFlag(ILLICIT_VIOLENT);
     }
 
     public Flag getSelfHarm() {
-        return selfHarm;
+        return getFlag(SELF_HARM);
     }
 
     public Flag getSelfHarmInstructions() {
-        return selfHarmInstructions;
+        return getFlag(SELF_HARM_INSTRUCTIONS);
     }
 
     public Flag getSelfHarmIntent() {
-        return selfHarmIntent;
+        return getFlag(SELF_HARM_INTENT);
     }
 
     public Flag getSexual() {
-        return sexual;
+        return getFlag(SEXUAL);
     }
 
     public Flag getSexualMinors() {
-        return sexualMinors;
+        return getFlag(SEXUAL_MINORS);
     }
 
     public Flag getViolence() {
-        return violence;
+        return getFlag(VIOLENCE);
     }
 
     public Flag getViolenceGraphic() {
-        return violenceGraphic;
+        return getFlag(VIOLENCE_GRAPHIC);
     }
 
     // Print Data
     public String getData(Data data) {
-        StringBuilder output = new StringBuilder();
-        if (inScope(harassment, data)) output.append("Harassment: ").append(harassment.asPercentage(2)).append("%\n");
-        if (inScope(harassmentThreatening, data)) output.append("Harassment Threatening: ").append(harassmentThreatening.asPercentage(2)).append("%\n");
-        if (inScope(hate, data)) output.append("Hate: ").append(hate.asPercentage(2)).append("%\n");
-        if (inScope(hateThreatening, data)) output.append("Hate Threatening: ").append(hateThreatening.asPercentage(2)).append("%\n");
-        if (inScope(illicit, data)) output.append("Illicit: ").append(illicit.asPercentage(2)).append("%\n");
-        if (inScope(illicitViolent, data)) output.append("Illicit Violent: ").append(illicitViolent.asPercentage(2)).append("%\n");
-        if (inScope(selfHarm, data)) output.append("Self Harm: ").append(selfHarm.asPercentage(2)).append("%\n");
-        if (inScope(selfHarmInstructions, data)) output.append("Self Harm Instructions: ").append(selfHarmInstructions.asPercentage(2)).append("%\n");
-        if (inScope(selfHarmIntent, data)) output.append("Self Harm Intent: ").append(selfHarmIntent.asPercentage(2)).append("%\n");
-        if (inScope(sexual, data)) output.append("Sexual: ").append(sexual.asPercentage(2)).append("%\n");
-        if (inScope(sexualMinors, data)) output.append("Sexual Minors: ").append(sexualMinors.asPercentage(2)).append("%\n");
-        if (inScope(violence, data)) output.append("Violence: ").append(violence.asPercentage(2)).append("%\n");
-        if (inScope(violenceGraphic, data)) output.append("Violence Graphic: ").append(violenceGraphic.asPercentage(2)).append("%\n");
+        var output = new StringBuilder();
+        for (var category : CATEGORIES) {
+            if (!inScope(isFlagged(category), data)) continue;
+            output.append(category.getName()).append(": ");
+            appendPercentage(output, scores[category.ordinal()]);
+            output.append("%\n");
+        }
         return output.toString();
     }
 
+    // Binary Serialization
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put((byte) (flagged ? 1 : 0));
+        buffer.putShort((short) flags);
+        for (var score : scores) buffer.putDouble(score);
+    }
+
+    public byte[] toBytes() {
+        var buffer = ByteBuffer.allocate(BYTES);
+        writeTo(buffer);
+        return buffer.array();
+    }
+
+    public static Rating readFrom(ByteBuffer buffer) {
+        var flagged = buffer.get() != 0;
+        var flags = buffer.getShort() & 0xFFFF;
+        var scores = new double[COUNT];
+        for (var i = 0; i < COUNT; i++) scores[i] = buffer.getDouble();
+        return new Rating(flagged, flags, scores);
+    }
+
+    public static Rating fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES) throw new IllegalArgumentException("Bytes must contain exactly " + BYTES + " values");
+        return readFrom(ByteBuffer.wrap(bytes));
+    }
+
     // Helper Method
-    private static boolean inScope(Flag flag, Data data) {
-        return data.equals(ALL) || (data.equals(POSITIVE) && flag.flagged) || data.equals(NEGATIVE);
+    private static boolean inScope(boolean flagged, Data data) {
+        return data.equals(ALL) || (data.equals(POSITIVE) && flagged) || data.equals(NEGATIVE);
+    }
+
+    private static void appendPercentage(StringBuilder output, double score) {
+        var hundredths = Math.round(score * 10_000);
+        var fraction = hundredths % 100;
+        output.append(hundredths / 100).append('.');
+        if (fraction < 10) output.append('0');
+        output.append(fraction);
     }
 
     // Data Enum
@@ -152,11 +231,13 @@ public class Rating implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(flagged, harassment, harassmentThreatening, hate, hateThreatening, illicit, illicitViolent, selfHarm, selfHarmInstructions, selfHarmIntent, sexual, sexualMinors, violence, violenceGraphic);
+        return 31 * (31 * Boolean.hashCode(flagged) + flags) + Arrays.hashCode(scores);
     }
 
     @Override
     public boolean equals(Object obj) {
-        return obj.getClass() == getClass() && hashCode() == obj.hashCode();
+        if (this == obj) return true;
+        if (!(obj instanceof Rating rating)) return false;
+        return flagged == rating.flagged && flags == rating.flags && Arrays.equals(scores, rating.scores);
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,6 @@ import com.openai.models.audio.transcriptions.TranscriptionSegment;
 
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.Objects;
 
 @SuppressWarnings("unused")
 public class Segment implements Serializable {
@@ -37,7 +36,26 @@ public class Segment implements Serializable {
         // Initialize Metadata
         id = segment.id();
         temperature = segment.temperature();
-        tokens = segment.tokens().stream().mapToLong(Long::longValue).toArray();
+
+        // Copy Tokens
+        var list = segment.tokens();
+        tokens = new long[list.size()];
+        for (var i = 0; i < tokens.length; i++) tokens[i] = list.get(i);
+    }
+
+    // Column Constructor
+    Segment(long id, double start, double end, String text, long[] tokens, float temperature) {
+        this.start = start;
+        this.end = end;
+        this.text = text;
+        this.id = id;
+        this.tokens = tokens;
+        this.temperature = temperature;
+    }
+
+    // Shift Segment by an Offset in Seconds
+    public Segment shift(long id, double offset) {
+        return new Segment(id, start + offset, end + offset, text, tokens, temperature);
     }
 
     // Getters
@@ -67,11 +85,18 @@ public class Segment implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(start, end, text, id, Arrays.hashCode(tokens), temperature);
+        var hash = Double.hashCode(start);
+        hash = 31 * hash + Double.hashCode(end);
+        hash = 31 * hash + text.hashCode();
+        hash = 31 * hash + Long.hashCode(id);
+        hash = 31 * hash + Arrays.hashCode(tokens);
+        return 31 * hash + Float.hashCode(temperature);
     }
 
     @Override
     public boolean equals(Object obj) {
-        return obj.getClass() == getClass() && hashCode() == obj.hashCode();
+        if (this == obj) return true;
+        if (!(obj instanceof Segment segment)) return false;
+        return Double.compare(start, segment.start) == 0 && Double.compare(end, segment.end) == 0 && id == segment.id && Float.compare(temperature, segment.temperature) == 0 && text.equals(segment.text) && Arrays.equals(tokens, segment.tokens);
     }
-}
\ No newline at end of file
+}
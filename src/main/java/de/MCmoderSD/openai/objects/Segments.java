@@ -0,0 +1,202 @@
+package de.MCmoderSD.openai.objects;
+
+import com.openai.models.audio.transcriptions.TranscriptionSegment;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class Segments implements Serializable {
+
+    // Time
+    private final double[] start;
+    private final double[] end;
+
+    // Content
+    private final String text;
+    private final int[] textOffsets;
+
+    // Metadata
+    private final long[] ids;
+    private final float[] temperatures;
+    private final int[] tokens;
+    private final int[] tokenOffsets;
+
+    // Constructor
+    private Segments(double[] start, double[] end, String text, int[] textOffsets, long[] ids, float[] temperatures, int[] tokens, int[] tokenOffsets) {
+        this.start = start;
+        this.end = end;
+        this.text = text;
+        this.textOffsets = textOffsets;
+        this.ids = ids;
+        this.temperatures = temperatures;
+        this.tokens = tokens;
+        this.tokenOffsets = tokenOffsets;
+    }
+
+    // Create from SDK Segments
+    public static Segments of(List<TranscriptionSegment> segments) {
+
+        // Check Segments
+        if (segments == null) throw new IllegalArgumentException("Segments must not be null");
+
+        // Init Columns
+        var size = segments.size();
+        var builder = new Builder(size);
+        for (var segment : segments) {
+            var list = segment.tokens();
+            var tokens = new int[list.size()];
+            for (var i = 0; i < tokens.length; i++) tokens[i] = Math.toIntExact(list.get(i));
+            builder.add(segment.id(), segment.start(), segment.end(), segment.text(), segment.temperature(), tokens);
+        }
+
+        // Build Columns
+        return builder.build();
+    }
+
+    // Create from Segment Objects
+    public static Segments from(List<Segment> segments) {
+
+        // Check Segments
+        if (segments == null) throw new IllegalArgumentException("Segments must not be null");
+
+        // Init Columns
+        var builder = new Builder(segments.size());
+        for (var segment : segments) {
+            var list = segment.getTokens();
+            var tokens = new int[list.length];
+            for (var i = 0; i < tokens.length; i++) tokens[i] = Math.toIntExact(list[i]);
+            builder.add(segment.getId(), segment.getStart(), segment.getEnd(), segment.getText(), segment.getTemperature(), tokens);
+        }
+
+        // Build Columns
+        return builder.build();
+    }
+
+    // Getter
+    public int size() {
+        return start.length;
+    }
+
+    public double getStart(int index) {
+        return start[index];
+    }
+
+    public double getEnd(int index) {
+        return end[index];
+    }
+
+    public String getText(int index) {
+        return text.substring(textOffsets[index], textOffsets[index + 1]);
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    public float getTemperature(int index) {
+        return temperatures[index];
+    }
+
+    public int getTokenCount(int index) {
+        return tokenOffsets[index + 1] - tokenOffsets[index];
+    }
+
+    public int getToken(int index, int token) {
+        if (token < 0 || token >= getTokenCount(index)) throw new IndexOutOfBoundsException("Token index out of range: " + token);
+        return tokens[tokenOffsets[index] + token];
+    }
+
+    public int[] getTokens(int index) {
+        return Arrays.copyOfRange(tokens, tokenOffsets[index], tokenOffsets[index + 1]);
+    }
+
+    public double[] getStarts() {
+        return start.clone();
+    }
+
+    public double[] getEnds() {
+        return end.clone();
+    }
+
+    // Materialize Segment Objects
+    public Segment get(int index) {
+        var values = new long[getTokenCount(index)];
+        for (var i = 0; i < values.length; i++) values[i] = tokens[tokenOffsets[index] + i];
+        return new Segment(ids[index], start[index], end[index], getText(index), values, temperatures[index]);
+    }
+
+    public ArrayList<Segment> toList() {
+        var list = new ArrayList<Segment>(size());
+        for (var i = 0; i < size(); i++) list.add(get(i));
+        return list;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(start) + Arrays.hashCode(end)) + text.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Segments segments)) return false;
+        return Arrays.equals(start, segments.start) && Arrays.equals(end, segments.end) && text.equals(segments.text) && Arrays.equals(textOffsets, segments.textOffsets) && Arrays.equals(ids, segments.ids) && Arrays.equals(temperatures, segments.temperatures) && Arrays.equals(tokens, segments.tokens) && Arrays.equals(tokenOffsets, segments.tokenOffsets);
+    }
+
+    // Column Builder
+    private static class Builder {
+
+        // Columns
+        private final double[] start;
+        private final double[] end;
+        private final StringBuilder text;
+        private final int[] textOffsets;
+        private final long[] ids;
+        private final float[] temperatures;
+        private int[] tokens;
+        private final int[] tokenOffsets;
+        private int size;
+
+        // Constructor
+        private Builder(int capacity) {
+            start = new double[capacity];
+            end = new double[capacity];
+            text = new StringBuilder();
+            textOffsets = new int[capacity + 1];
+            ids = new long[capacity];
+            temperatures = new float[capacity];
+            tokens = new int[capacity * 16];
+            tokenOffsets = new int[capacity + 1];
+            size = 0;
+        }
+
+        // Add Segment
+        private void add(long id, double start, double end, String text, float temperature, int[] tokens) {
+
+            // Set Values
+            this.start[size] = start;
+            this.end[size] = end;
+            this.ids[size] = id;
+            this.temperatures[size] = temperature;
+
+            // Append Text
+            this.text.append(text);
+            textOffsets[size + 1] = this.text.length();
+
+            // Append Tokens
+            var offset = tokenOffsets[size];
+            if (offset + tokens.length > this.tokens.length) this.tokens = Arrays.copyOf(this.tokens, Math.max(this.tokens.length * 2, offset + tokens.length));
+            System.arraycopy(tokens, 0, this.tokens, offset, tokens.length);
+            tokenOffsets[size + 1] = offset + tokens.length;
+            size++;
+        }
+
+        // Build
+        private Segments build() {
+            return new Segments(start, end, text.toString(), textOffsets, ids, temperatures, Arrays.copyOf(tokens, tokenOffsets[size]), tokenOffsets);
+        }
+    }
+}
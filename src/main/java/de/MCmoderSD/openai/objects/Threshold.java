@@ -0,0 +1,93 @@
+package de.MCmoderSD.openai.objects;
+
+import de.MCmoderSD.openai.enums.Category;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import static de.MCmoderSD.openai.enums.Category.COUNT;
+
+@SuppressWarnings("unused")
+public class Threshold implements Serializable {
+
+    // Attributes
+    private final double[] cutoffs;
+
+    // Constructor
+    private Threshold(double[] cutoffs) {
+        this.cutoffs = cutoffs;
+    }
+
+    // Evaluate Rating, returns the Bitmask of exceeded Categories
+    public int evaluate(Rating rating) {
+        var mask = 0;
+        for (var i = 0; i < COUNT; i++) if (rating.getScore(i) >= cutoffs[i]) mask |= 1 << i;
+        return mask;
+    }
+
+    // Check if any Category exceeds its Cutoff
+    public boolean test(Rating rating) {
+        return evaluate(rating) != 0;
+    }
+
+    // Getter
+    public double getCutoff(Category category) {
+        return cutoffs[category.ordinal()];
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cutoffs);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Threshold threshold && Arrays.equals(cutoffs, threshold.cutoffs);
+    }
+
+    // Static Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Builder Class
+    public static class Builder {
+
+        // Parameter
+        private final double[] cutoffs;
+
+        // Constructor
+        private Builder() {
+            cutoffs = new double[COUNT];
+            Arrays.fill(cutoffs, 0.5d);
+        }
+
+        // Build
+        public Threshold build() {
+            return new Threshold(cutoffs.clone());
+        }
+
+        // Set Default Cutoff
+        public Builder setDefault(double cutoff) {
+
+            // Check Cutoff
+            if (cutoff < 0 || cutoff > 1) throw new IllegalArgumentException("Cutoff must be between 0 and 1");
+
+            // Set Cutoff
+            Arrays.fill(cutoffs, cutoff);
+            return this;
+        }
+
+        // Set Category Cutoff
+        public Builder setCutoff(Category category, double cutoff) {
+
+            // Check Parameters
+            if (category == null) throw new IllegalArgumentException("Category must not be null");
+            if (cutoff < 0 || cutoff > 1) throw new IllegalArgumentException("Cutoff must be between 0 and 1");
+
+            // Set Cutoff
+            cutoffs[category.ordinal()] = cutoff;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package de.MCmoderSD.openai.objects;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class Wave {
+
+    // Constants
+    private static final int RIFF = 0x46464952;
+    private static final int WAVE = 0x45564157;
+    private static final int FMT = 0x20746D66;
+    private static final int DATA = 0x61746164;
+
+    // Chunks
+    private final ByteBuffer format;
+    private final ByteBuffer data;
+
+    // Format
+    private final int channels;
+    private final int sampleRate;
+    private final int blockAlign;
+    private final int bitsPerSample;
+
+    // Constructor
+    private Wave(ByteBuffer format, ByteBuffer data) {
+
+        // Set Chunks
+        this.format = format;
+        this.data = data;
+
+        // Extract Format
+        channels = format.getShort(2) & 0xFFFF;
+        sampleRate = format.getInt(4);
+        blockAlign = format.getShort(12) & 0xFFFF;
+        bitsPerSample = format.getShort(14) & 0xFFFF;
+    }
+
+    // Parse WAV, Chunks are Views on the Buffer
+    public static Wave parse(ByteBuffer buffer) {
+
+        // Check Header
+        buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        var limit = buffer.limit();
+        if (limit < 12 || buffer.getInt(0) != RIFF || buffer.getInt(8) != WAVE) throw new IllegalArgumentException("Invalid WAV data");
+
+        // Find Chunks
+        ByteBuffer format = null;
+        var position = 12;
+        while (position + 8 <= limit) {
+            var id = buffer.getInt(position);
+            var size = buffer.getInt(position + 4) & 0xFFFFFFFFL;
+            var length = (int) Math.min(size, limit - position - 8);
+            if (id == FMT && format == null && length >= 16) format = buffer.slice(position + 8, length).order(ByteOrder.LITTLE_ENDIAN);
+            if (id == DATA) {
+                if (format == null) break;
+                return new Wave(format, buffer.slice(position + 8, length).order(ByteOrder.LITTLE_ENDIAN));
+            }
+            position += 8 + length + (length & 1);
+        }
+        throw new IllegalArgumentException("Invalid WAV data");
+    }
+
+    public static Wave parse(byte[] data) {
+        return parse(ByteBuffer.wrap(data));
+    }
+
+    // Write WAV with the given Format and Data Chunks
+    public static byte[] write(ByteBuffer format, List<ByteBuffer> chunks) {
+
+        // Write Header
+        var length = chunks.stream().mapToInt(ByteBuffer::remaining).sum();
+        var out = ByteBuffer.allocate(12 + 8 + format.remaining() + 8 + length).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(RIFF).putInt(out.capacity() - 8).putInt(WAVE);
+        out.putInt(FMT).putInt(format.remaining()).put(format.duplicate());
+        out.putInt(DATA).putInt(length);
+
+        // Write Data
+        for (var chunk : chunks) out.put(chunk.duplicate());
+        return out.array();
+    }
+
+    // Write a Slice of this WAV, Offsets are in Bytes of the Data Chunk
+    public byte[] slice(int offset, int length) {
+        return write(format, List.of(data.slice(offset, length)));
+    }
+
+    // Getter
+    public ByteBuffer getFormat() {
+        return format.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public ByteBuffer getData() {
+        return data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getBlockAlign() {
+        return blockAlign;
+    }
+
+    public int getBitsPerSample() {
+        return bitsPerSample;
+    }
+
+    public int getByteRate() {
+        return sampleRate * blockAlign;
+    }
+
+    public double getDuration() {
+        return (double) data.remaining() / getByteRate();
+    }
+}
@@ -0,0 +1,14 @@
+package de.MCmoderSD.openai.objects;
+
+import com.openai.models.audio.transcriptions.TranscriptionWord;
+
+import java.io.Serializable;
+
+@SuppressWarnings("unused")
+public record Word(String text, double start, double end) implements Serializable {
+
+    // Constructor
+    public Word(TranscriptionWord word) {
+        this(word.word(), word.start(), word.end());
+    }
+}
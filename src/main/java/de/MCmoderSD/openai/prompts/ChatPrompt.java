@@ -6,6 +6,7 @@ import com.openai.models.responses.Response;
 
 import de.MCmoderSD.openai.models.ChatModel;
 
+import java.io.Serializable;
 import java.time.Instant;
 
 @SuppressWarnings("unused")
@@ -37,10 +38,15 @@ public class ChatPrompt {
 
     // Constructor
     public ChatPrompt(ResponseCreateParams input, Response output) {
+        this(input, output, false);
+    }
+
+    // Constructor, lean Prompts drop the SDK Request and Response after parsing
+    public ChatPrompt(ResponseCreateParams input, Response output, boolean lean) {
 
         // Set Parameters
-        this.input = input;
-        this.output = output;
+        this.input = lean ? null : input;
+        this.output = lean ? null : output;
 
         // Data
         id = output.id();
@@ -65,7 +71,11 @@ public class ChatPrompt {
     }
 
     private static String extractModel(ResponsesModel model) {
-        return model.toString().replaceAll("^.*?=|}$", "").trim();
+        var name = model.string();
+        if (name.isPresent()) return name.get();
+        var chat = model.chat();
+        if (chat.isPresent()) return chat.get().asString();
+        return model.only().orElseThrow().asString();
     }
 
     // Getters
@@ -124,4 +134,13 @@ public class ChatPrompt {
     public String getContent() {
         return content;
     }
+
+    // Compact Result
+    public Result toResult() {
+        return new Result(id, createdAt, completedAt, inputTokens, outputTokens, totalTokens, cachedInputTokens, reasoningTokens, model, temperature, topP, content);
+    }
+
+    // Result Record
+    public record Result(String id, Instant createdAt, Instant completedAt, long inputTokens, long outputTokens, long totalTokens, long cachedInputTokens, long reasoningTokens, ChatModel model, double temperature, double topP, String content) implements Serializable {
+    }
 }
\ No newline at end of file
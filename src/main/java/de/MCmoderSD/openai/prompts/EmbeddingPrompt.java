@@ -7,6 +7,7 @@ import com.openai.models.embeddings.CreateEmbeddingResponse;
 import de.MCmoderSD.openai.models.EmbeddingModel;
 import de.MCmoderSD.openai.objects.Embedding;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 @SuppressWarnings("unused")
@@ -38,10 +39,15 @@ public class EmbeddingPrompt {
 
     // Constructor
     public EmbeddingPrompt(EmbeddingCreateParams input, CreateEmbeddingResponse output) {
+        this(input, output, false);
+    }
+
+    // Constructor, lean Prompts drop the SDK Request and Response after parsing
+    public EmbeddingPrompt(EmbeddingCreateParams input, CreateEmbeddingResponse output, boolean lean) {
 
         // Initialize Parameters
-        this.input = input;
-        this.output = output;
+        this.input = lean ? null : input;
+        this.output = lean ? null : output;
 
         // Extract Content
         embedding = new Embedding(Embedding.convertToFloatArray(output.data().getFirst().embedding()));
@@ -113,4 +119,13 @@ public class EmbeddingPrompt {
     public Embedding getEmbedding() {
         return embedding;
     }
+
+    // Compact Result
+    public Result toResult() {
+        return new Result(user, dimension, text, model, promptTokens, totalTokens, promptCost, totalCost, embedding);
+    }
+
+    // Result Record
+    public record Result(String user, int dimension, String text, EmbeddingModel model, long promptTokens, long totalTokens, BigDecimal promptCost, BigDecimal totalCost, Embedding embedding) implements Serializable {
+    }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import com.openai.models.moderations.ModerationCreateResponse;
 import de.MCmoderSD.openai.models.ModerationModel;
 import de.MCmoderSD.openai.objects.Rating;
 
+import java.io.Serializable;
+
 @SuppressWarnings("unused")
 public class ModerationPrompt {
 
@@ -23,12 +25,21 @@ public class ModerationPrompt {
     private final Moderation moderation;
     private final Rating rating;
 
+    // Source
+    private final boolean cached;
+    private final boolean filtered;
+
     // Constructor
     public ModerationPrompt(ModerationCreateParams input, ModerationCreateResponse output) {
+        this(input, output, false);
+    }
+
+    // Constructor, lean Prompts drop the SDK Request and Response after parsing
+    public ModerationPrompt(ModerationCreateParams input, ModerationCreateResponse output, boolean lean) {
 
         // Initialize Parameters
-        this.input = input;
-        this.output = output;
+        this.input = lean ? null : input;
+        this.output = lean ? null : output;
 
         // Extract Data
         id = output.id();
@@ -36,8 +47,35 @@ public class ModerationPrompt {
         text = input.input().asString();
 
         // Extract Content
-        moderation = output.results().getFirst();
-        rating = new Rating(moderation);
+        var result = output.results().getFirst();
+        moderation = lean ? null : result;
+        rating = new Rating(result);
+        cached = false;
+        filtered = false;
+    }
+
+    // Local Constructor, used for cached or filtered Ratings
+    public ModerationPrompt(ModerationCreateParams input, ModerationModel model, Rating rating, boolean cached) {
+        this(input, model, rating, cached, false);
+    }
+
+    // Local Constructor, lean Prompts drop the SDK Request
+    public ModerationPrompt(ModerationCreateParams input, ModerationModel model, Rating rating, boolean cached, boolean lean) {
+
+        // Initialize Parameters
+        this.input = lean ? null : input;
+        this.output = null;
+
+        // Set Data
+        id = null;
+        this.model = model;
+        text = input.input().asString();
+
+        // Set Content
+        moderation = null;
+        this.rating = rating;
+        this.cached = cached;
+        filtered = !cached;
     }
 
     // Getter
@@ -68,4 +106,21 @@ public class ModerationPrompt {
     public Rating getRating() {
         return rating;
     }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    public boolean isFiltered() {
+        return filtered;
+    }
+
+    // Compact Result
+    public Result toResult() {
+        return new Result(id, model, text, rating);
+    }
+
+    // Result Record
+    public record Result(String id, ModerationModel model, String text, Rating rating) implements Serializable {
+    }
 }
\ No newline at end of file
@@ -3,12 +3,11 @@ package de.MCmoderSD.openai.prompts;
 import com.openai.models.audio.speech.SpeechCreateParams;
 import com.openai.core.http.HttpResponse;
 
-import java.io.ByteArrayInputStream;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
 
 @SuppressWarnings("unused")
 public class SpeechPrompt {
@@ -17,22 +16,62 @@ public class SpeechPrompt {
     private final SpeechCreateParams input;
     private final HttpResponse output;
 
-    // Data
+    // Data, either owned Bytes or a read-only Buffer
+    private final String format;
     private final byte[] data;
+    private final ByteBuffer buffer;
 
     public SpeechPrompt(SpeechCreateParams input, HttpResponse output) {
+        this(input, output, false);
+    }
+
+    // Constructor, lean Prompts drop the SDK Request and Response after reading
+    public SpeechPrompt(SpeechCreateParams input, HttpResponse output, boolean lean) {
 
         // Initialize Parameters
-        this.input = input;
-        this.output = output;
+        this.input = lean ? null : input;
+        this.output = lean ? null : output;
 
         // Extract Data
+        format = input.responseFormat().orElseThrow().asString();
         data = readResponse(output);
+        buffer = null;
+    }
+
+    // Data Constructor, used for stitched or cached Audio
+    public SpeechPrompt(SpeechCreateParams input, byte[] data) {
+        this(input, data, false);
+    }
+
+    // Data Constructor, lean Prompts drop the SDK Request
+    public SpeechPrompt(SpeechCreateParams input, byte[] data, boolean lean) {
+
+        // Initialize Parameters
+        this.input = lean ? null : input;
+        this.output = null;
+
+        // Set Data
+        format = input.responseFormat().orElseThrow().asString();
+        this.data = data;
+        buffer = null;
+    }
+
+    // Buffer Constructor, used for cached Audio which may be memory-mapped, the Buffer is never written
+    public SpeechPrompt(SpeechCreateParams input, ByteBuffer buffer, boolean lean) {
+
+        // Initialize Parameters
+        this.input = lean ? null : input;
+        this.output = null;
+
+        // Set Buffer
+        format = input.responseFormat().orElseThrow().asString();
+        data = null;
+        this.buffer = buffer.asReadOnlyBuffer();
     }
 
     // Read Response
     private static byte[] readResponse(HttpResponse response) {
-        try {
+        try (response) {
             return response.body().readAllBytes();
         } catch (IOException e) {
             throw new RuntimeException("Failed to read speech response data", e);
@@ -48,8 +87,21 @@ public class SpeechPrompt {
         return output;
     }
 
+    public String getFormat() {
+        return format;
+    }
+
+    // Data, Buffer backed Prompts return a Copy
     public byte[] getData() {
-        return data;
+        if (data != null) return data;
+        var copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return copy;
+    }
+
+    // Read-only View of the Data without copying
+    public ByteBuffer getBuffer() {
+        return data != null ? ByteBuffer.wrap(data).asReadOnlyBuffer() : buffer.duplicate();
     }
 
     // Methods
@@ -62,18 +114,24 @@ public class SpeechPrompt {
         // Check File Extension
         var fileName = file.getName();
         var extension = fileName.substring(fileName.lastIndexOf('.') + 1);
-        var format = input.responseFormat().orElseThrow().asString();
         if (!format.equalsIgnoreCase(extension)) throw new IllegalArgumentException("File extension must match response format: " + format);
 
         // Write Data to File
-        try (
-                var in = new BufferedInputStream(new ByteArrayInputStream(data));
-                var out = new BufferedOutputStream(new FileOutputStream(file))
-        ) {
-            in.transferTo(out);
+        try (var out = new FileOutputStream(file); var channel = out.getChannel()) {
+            var source = getBuffer();
+            while (source.hasRemaining()) channel.write(source);
             return file;
         } catch (IOException e) {
             throw new RuntimeException("Failed to write speech data to file", e);
         }
     }
+
+    // Compact Result
+    public Result toResult() {
+        return new Result(format, getData());
+    }
+
+    // Result Record
+    public record Result(String format, byte[] data) implements Serializable {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package de.MCmoderSD.openai.prompts;
+
+import com.openai.models.audio.speech.SpeechCreateParams;
+import com.openai.models.audio.speech.SpeechCreateParams.ResponseFormat;
+import com.openai.core.http.HttpResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@SuppressWarnings("unused")
+public class SpeechStream implements AutoCloseable {
+
+    // Constants
+    private static final int CHUNK_SIZE = 8192;
+
+    // Parameters
+    private final SpeechCreateParams input;
+    private final HttpResponse output;
+
+    // Data
+    private final InputStream body;
+    private final ResponseFormat format;
+    private final Runnable release;
+
+    // Constructor
+    public SpeechStream(SpeechCreateParams input, HttpResponse output) {
+        this(input, output, null);
+    }
+
+    // Constructor, the Release runs once the Stream is closed, e.g. to drop a Cancellation Callback
+    public SpeechStream(SpeechCreateParams input, HttpResponse output, Runnable release) {
+
+        // Initialize Parameters
+        this.input = input;
+        this.output = output;
+        this.release = release;
+
+        // Extract Data
+        body = output.body();
+        format = input.responseFormat().orElseThrow();
+    }
+
+    // Getter
+    public SpeechCreateParams getInput() {
+        return input;
+    }
+
+    public HttpResponse getOutput() {
+        return output;
+    }
+
+    public ResponseFormat getFormat() {
+        return format;
+    }
+
+    public InputStream getInputStream() {
+        return body;
+    }
+
+    public ReadableByteChannel getChannel() {
+        return Channels.newChannel(body);
+    }
+
+    // Methods
+    public long transferTo(OutputStream out) {
+
+        // Check Output
+        if (out == null) throw new IllegalArgumentException("Output must not be null");
+
+        // Transfer Data
+        try {
+            return body.transferTo(out);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to transfer speech data", e);
+        } finally {
+            close();
+        }
+    }
+
+    public File toFile(File file) {
+
+        // Check File
+        if (file == null) throw new IllegalArgumentException("File must not be null");
+        if (file.isDirectory()) throw new IllegalArgumentException("File must not be a directory");
+
+        // Check File Extension
+        var fileName = file.getName();
+        var extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+        if (!format.asString().equalsIgnoreCase(extension)) throw new IllegalArgumentException("File extension must match response format: " + format.asString());
+
+        // Transfer Body directly into the File Channel
+        try (var source = getChannel(); var target = FileChannel.open(file.toPath(), CREATE, WRITE, TRUNCATE_EXISTING)) {
+            var position = 0L;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, Long.MAX_VALUE - position)) > 0) position += transferred;
+            return file;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write speech data to file", e);
+        } finally {
+            close();
+        }
+    }
+
+    public long forEach(Consumer<byte[]> consumer) {
+
+        // Check Consumer
+        if (consumer == null) throw new IllegalArgumentException("Consumer must not be null");
+
+        // Push Chunks as soon as they arrive
+        try {
+            var buffer = new byte[CHUNK_SIZE];
+            var total = 0L;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (read == 0) continue;
+                consumer.accept(Arrays.copyOf(buffer, read));
+                total += read;
+            }
+            return total;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read speech data", e);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            output.close();
+        } finally {
+            if (release != null) release.run();
+        }
+    }
+}
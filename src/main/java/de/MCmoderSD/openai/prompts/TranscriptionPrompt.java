@@ -0,0 +1,121 @@
+package de.MCmoderSD.openai.prompts;
+
+import com.openai.models.audio.transcriptions.TranscriptionCreateParams;
+import com.openai.models.audio.transcriptions.TranscriptionCreateResponse;
+
+import de.MCmoderSD.openai.objects.Segment;
+import de.MCmoderSD.openai.objects.Segments;
+import de.MCmoderSD.openai.objects.Word;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class TranscriptionPrompt {
+
+    // Parameters
+    private final TranscriptionCreateParams input;
+    private final TranscriptionCreateResponse output;
+
+    // Content
+    private final double duration;
+    private final String language;
+    private final String text;
+
+    // Timestamps
+    private final Segments segments;
+    private final ArrayList<Word> words;
+
+    // Constructor
+    public TranscriptionPrompt(TranscriptionCreateParams input, TranscriptionCreateResponse output) {
+        this(input, output, false);
+    }
+
+    // Constructor, lean Prompts drop the SDK Request and Response after parsing
+    public TranscriptionPrompt(TranscriptionCreateParams input, TranscriptionCreateResponse output, boolean lean) {
+
+        // Initialize Parameters
+        this.input = lean ? null : input;
+        this.output = lean ? null : output;
+
+        // Plain Response
+        if (!output.isVerbose()) {
+            duration = 0;
+            language = null;
+            text = output.asTranscription().text();
+            segments = Segments.of(List.of());
+            words = new ArrayList<>();
+            return;
+        }
+
+        // Extract Content
+        var data = output.asVerbose();
+        duration = data.duration();
+        language = data.language();
+        text = data.text();
+
+        // Extract Timestamps
+        var wordData = data.words().orElse(List.of());
+        segments = Segments.of(data.segments().orElse(List.of()));
+        words = new ArrayList<>(wordData.size());
+        wordData.forEach(word -> words.add(new Word(word)));
+    }
+
+    // Streamed Constructor
+    public TranscriptionPrompt(TranscriptionCreateParams input, String text) {
+
+        // Initialize Parameters
+        this.input = input;
+        this.output = null;
+
+        // Set Content
+        duration = 0;
+        language = null;
+        this.text = text;
+        segments = Segments.of(List.of());
+        words = new ArrayList<>();
+    }
+
+    // Getters
+    public TranscriptionCreateParams getInput() {
+        return input;
+    }
+
+    public TranscriptionCreateResponse getOutput() {
+        return output;
+    }
+
+    public double getDuration() {
+        return duration;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public ArrayList<Segment> getSegments() {
+        return segments.toList();
+    }
+
+    public Segments getColumns() {
+        return segments;
+    }
+
+    public ArrayList<Word> getWords() {
+        return words;
+    }
+
+    // Compact Result
+    public Result toResult() {
+        return new Result(duration, language, text, segments, List.copyOf(words));
+    }
+
+    // Result Record
+    public record Result(double duration, String language, String text, Segments segments, List<Word> words) implements Serializable {
+    }
+}
\ No newline at end of file
@@ -3,8 +3,11 @@ package de.MCmoderSD.openai.prompts;
 import com.openai.models.audio.translations.TranslationCreateParams;
 import com.openai.models.audio.translations.TranslationCreateResponse;
 import de.MCmoderSD.openai.objects.Segment;
+import de.MCmoderSD.openai.objects.Segments;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
 
 @SuppressWarnings("unused")
 public class TranslationPrompt {
@@ -19,14 +22,19 @@ public class TranslationPrompt {
     private final String text;
 
     // Segments
-    private final ArrayList<Segment> segments;
+    private final Segments segments;
 
     // Constructor
     public TranslationPrompt(TranslationCreateParams input, TranslationCreateResponse output) {
+        this(input, output, false);
+    }
+
+    // Constructor, lean Prompts drop the SDK Request and Response after parsing
+    public TranslationPrompt(TranslationCreateParams input, TranslationCreateResponse output, boolean lean) {
 
         // Initialize Parameters
-        this.input = input;
-        this.output = output;
+        this.input = lean ? null : input;
+        this.output = lean ? null : output;
 
         // Extract Content
         var data = output.asVerbose();
@@ -35,8 +43,23 @@ public class TranslationPrompt {
         text = data.text();
 
         // Extract Segments
-        segments = new ArrayList<>(data.segments().orElseThrow().size());
-        data.segments().orElseThrow().forEach(segment -> segments.add(new Segment(segment)));
+        segments = Segments.of(data.segments().orElseThrow());
+    }
+
+    // Merged Constructor, used for chunked Audio
+    public TranslationPrompt(double duration, String language, String text, List<Segment> segments) {
+
+        // Initialize Parameters
+        this.input = null;
+        this.output = null;
+
+        // Set Content
+        this.duration = duration;
+        this.language = language;
+        this.text = text;
+
+        // Set Segments
+        this.segments = Segments.from(segments);
     }
 
     // Getters
@@ -61,6 +84,19 @@ public class TranslationPrompt {
     }
 
     public ArrayList<Segment> getSegments() {
+        return segments.toList();
+    }
+
+    public Segments getColumns() {
         return segments;
     }
+
+    // Compact Result
+    public Result toResult() {
+        return new Result(duration, language, text, segments);
+    }
+
+    // Result Record
+    public record Result(double duration, String language, String text, Segments segments) implements Serializable {
+    }
 }
\ No newline at end of file
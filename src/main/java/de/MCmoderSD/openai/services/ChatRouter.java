@@ -0,0 +1,384 @@
+package de.MCmoderSD.openai.services;
+
+import com.openai.models.ReasoningEffort;
+
+import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.core.RetryPolicy;
+import de.MCmoderSD.openai.enums.Modality;
+import de.MCmoderSD.openai.enums.Tool;
+import de.MCmoderSD.openai.models.ChatModel;
+import de.MCmoderSD.openai.prompts.ChatPrompt;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static de.MCmoderSD.openai.models.ChatModel.*;
+
+@SuppressWarnings("unused")
+public class ChatRouter {
+
+    // Constants
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final long DEFAULT_OUTPUT_TOKENS = 1024;
+    private static final double ALPHA = 0.2;
+    private static final long PROBE_INTERVAL = Duration.ofSeconds(10).toNanos();
+    private static final String CONTEXT_LENGTH_EXCEEDED = "context_length_exceeded";
+
+    // Attributes
+    private final List<ChatModel> tiers;
+    private final EnumMap<ChatModel, ChatService> services;
+    private final EnumMap<ChatModel, Stats> stats;
+
+    // Parameters
+    private final Set<Modality> input;
+    private final Set<Tool> tool;
+    private final ReasoningEffort reasoningEffort;
+    private final String instructions;
+    private final int maxOutputTokens;
+    private final long latency;
+    private final BigDecimal budget;
+    private final int maxAttempts;
+
+    // Constructor
+    private ChatRouter(OpenAI openAI, List<ChatModel> tiers, Set<Modality> input, Set<Tool> tool, ReasoningEffort reasoningEffort, String instructions, int maxOutputTokens, boolean lean, Duration latency, BigDecimal budget, int maxAttempts) {
+
+        // Set Parameters
+        this.tiers = tiers;
+        this.input = input;
+        this.tool = tool;
+        this.reasoningEffort = reasoningEffort;
+        this.instructions = instructions;
+        this.maxOutputTokens = maxOutputTokens;
+        this.latency = latency == null ? 0 : latency.toNanos();
+        this.budget = budget;
+        this.maxAttempts = maxAttempts;
+
+        // Init Services and Stats
+        services = new EnumMap<>(ChatModel.class);
+        stats = new EnumMap<>(ChatModel.class);
+        for (var model : tiers) {
+            var builder = ChatService.builder().setModel(model).setLean(lean);
+            if (!instructions.isBlank()) builder.setInstructions(instructions);
+            if (reasoningEffort != null && model.hasReasoning(reasoningEffort)) builder.setReasoningEffort(reasoningEffort);
+            if (maxOutputTokens > 0) builder.setMaxOutputTokens((int) Math.min(maxOutputTokens, model.getMaxOutputTokens()));
+            services.put(model, builder.build(openAI));
+            stats.put(model, new Stats());
+        }
+    }
+
+    // Route Prompt to the cheapest Tier within Latency and Budget
+    public ChatModel route(String prompt) {
+
+        // Check Parameters
+        if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
+
+        // Estimate Prompt
+        var inputTokens = estimateTokens(prompt);
+
+        // Select Tier
+        ChatModel fallback = null;
+        for (var model : tiers) {
+            if (!fits(model, inputTokens)) continue;
+            if (fallback == null) fallback = model;
+            if (budget != null && estimateCost(model, inputTokens).compareTo(budget) > 0) continue;
+            var stat = stats.get(model);
+            if (latency > 0 && stat.getLatency() > latency && !stat.probe(System.nanoTime())) continue;
+            return model;
+        }
+
+        // Fallback to the cheapest capable Tier
+        if (fallback == null) throw new IllegalArgumentException("No model satisfies the prompt size and capability requirements");
+        return fallback;
+    }
+
+    // Create fresh Chat
+    public ChatPrompt create(String prompt) {
+        return create(prompt, null);
+    }
+
+    // Create Chat with previous chat history
+    public ChatPrompt create(String prompt, String previousResponseId) {
+
+        // Route Prompt
+        var model = route(prompt);
+        var inputTokens = estimateTokens(prompt);
+
+        // Try and escalate on Failure
+        RuntimeException failure = null;
+        for (var attempt = 0; attempt < maxAttempts && model != null; attempt++) {
+            var stat = stats.get(model);
+            var start = System.nanoTime();
+            try {
+                var chatPrompt = previousResponseId == null ? services.get(model).create(prompt) : services.get(model).create(prompt, previousResponseId);
+                stat.success(System.nanoTime() - start, chatPrompt.getOutputTokens());
+                return chatPrompt;
+            } catch (RuntimeException e) {
+
+                // Other Failures would fail on every Tier, they are rethrown and don't count against the Tier
+                if (!escalates(e)) {
+                    if (failure != null) e.addSuppressed(failure);
+                    throw e;
+                }
+
+                // Escalate
+                stat.failure();
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+                model = escalate(model, inputTokens);
+            }
+        }
+
+        // Throw first Failure
+        throw failure;
+    }
+
+    // Transient or Capacity Failure, or a Prompt beyond the Context Window of the Tier
+    private static boolean escalates(RuntimeException e) {
+        if (RetryPolicy.retryable(e)) return true;
+        for (Throwable current = e; current != null; current = current.getCause()) if (current.getMessage() != null && current.getMessage().contains(CONTEXT_LENGTH_EXCEEDED)) return true;
+        return false;
+    }
+
+    // Next stronger Tier
+    private ChatModel escalate(ChatModel model, long inputTokens) {
+        for (var i = tiers.indexOf(model) + 1; i < tiers.size(); i++) if (fits(tiers.get(i), inputTokens)) return tiers.get(i);
+        return null;
+    }
+
+    // Check Context Window and Capabilities
+    private boolean fits(ChatModel model, long inputTokens) {
+        if (!model.getInput().containsAll(input) || !model.getTool().containsAll(tool)) return false;
+        if (reasoningEffort != null && !model.hasReasoning(reasoningEffort)) return false;
+        return inputTokens + (maxOutputTokens > 0 ? maxOutputTokens : 0) <= model.getContextWindow();
+    }
+
+    // Estimate Tokens
+    private long estimateTokens(String prompt) {
+        return (prompt.length() + instructions.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    // Estimate Cost
+    public BigDecimal estimateCost(ChatModel model, long inputTokens) {
+        var stat = stats.get(model);
+        var outputTokens = stat == null ? 0 : stat.getOutputTokens();
+        if (outputTokens <= 0) outputTokens = maxOutputTokens > 0 ? maxOutputTokens : DEFAULT_OUTPUT_TOKENS;
+        return model.getInputCost(inputTokens).add(model.getOutputCost(Math.round(outputTokens)));
+    }
+
+    // Getter
+    public List<ChatModel> getTiers() {
+        return tiers;
+    }
+
+    public ChatService getService(ChatModel model) {
+        return services.get(model);
+    }
+
+    public Duration getLatency(ChatModel model) {
+        var stat = stats.get(model);
+        return stat == null ? Duration.ZERO : Duration.ofNanos(Math.round(stat.getLatency()));
+    }
+
+    public long getFailures(ChatModel model) {
+        var stat = stats.get(model);
+        return stat == null ? 0 : stat.getFailures();
+    }
+
+    // Observed Latency and Usage per Tier
+    private static class Stats {
+
+        // Attributes
+        private double latency;
+        private double outputTokens;
+        private long failures;
+        private long updated;
+
+        // Record Success
+        private synchronized void success(long nanos, long tokens) {
+            latency = latency == 0 ? nanos : latency + ALPHA * (nanos - latency);
+            outputTokens = outputTokens == 0 ? tokens : outputTokens + ALPHA * (tokens - outputTokens);
+            updated = System.nanoTime();
+        }
+
+        // Claim a Probe, a skipped Tier gets no Samples otherwise and could never recover
+        private synchronized boolean probe(long now) {
+            if (now - updated < PROBE_INTERVAL) return false;
+            updated = now;
+            return true;
+        }
+
+        // Record Failure
+        private synchronized void failure() {
+            failures++;
+        }
+
+        // Getter
+        private synchronized double getLatency() {
+            return latency;
+        }
+
+        private synchronized double getOutputTokens() {
+            return outputTokens;
+        }
+
+        private synchronized long getFailures() {
+            return failures;
+        }
+    }
+
+    // Static Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Builder Class
+    public static class Builder {
+
+        // Parameter
+        private List<ChatModel> tiers;
+        private Set<Modality> input;
+        private Set<Tool> tool;
+        private ReasoningEffort reasoningEffort;
+        private String instructions;
+        private int maxOutputTokens;
+        private boolean lean;
+        private Duration latency;
+        private BigDecimal budget;
+        private int maxAttempts;
+
+        // Constructor
+        private Builder() {
+            tiers = List.of(GPT_5_4_NANO, GPT_5_4_MINI, GPT_5_4, GPT_5_4_PRO);
+            input = EnumSet.noneOf(Modality.class);
+            tool = EnumSet.noneOf(Tool.class);
+            reasoningEffort = null;
+            instructions = "";
+            maxOutputTokens = 0;
+            lean = false;
+            latency = null;
+            budget = null;
+            maxAttempts = 2;
+        }
+
+        // Build
+        public ChatRouter build(OpenAI openAI) {
+
+            // Check OpenAI
+            if (openAI == null) throw new IllegalArgumentException("OpenAI must not be null");
+
+            // Return Router
+            return new ChatRouter(openAI, tiers, input, tool, reasoningEffort, instructions, maxOutputTokens, lean, latency, budget, maxAttempts);
+        }
+
+        // Set Tiers, ordered from cheapest to strongest
+        public Builder setTiers(ChatModel... tiers) {
+
+            // Check Tiers
+            if (tiers == null || tiers.length == 0) throw new IllegalArgumentException("Tiers must not be null or empty");
+            for (var tier : tiers) if (tier == null) throw new IllegalArgumentException("Tier must not be null");
+            if (EnumSet.copyOf(List.of(tiers)).size() != tiers.length) throw new IllegalArgumentException("Tiers must not contain duplicates");
+
+            // Set Tiers
+            this.tiers = List.of(tiers);
+            return this;
+        }
+
+        // Set required Input Modalities
+        public Builder setInput(Modality... input) {
+
+            // Check Input
+            if (input == null) throw new IllegalArgumentException("Input must not be null");
+
+            // Set Input
+            this.input = input.length == 0 ? EnumSet.noneOf(Modality.class) : EnumSet.copyOf(List.of(input));
+            return this;
+        }
+
+        // Set required Tools
+        public Builder setTool(Tool... tool) {
+
+            // Check Tool
+            if (tool == null) throw new IllegalArgumentException("Tool must not be null");
+
+            // Set Tool
+            this.tool = tool.length == 0 ? EnumSet.noneOf(Tool.class) : EnumSet.copyOf(List.of(tool));
+            return this;
+        }
+
+        // Set required Reasoning Effort
+        public Builder setReasoningEffort(ReasoningEffort reasoningEffort) {
+
+            // Check Reasoning Effort
+            if (reasoningEffort == null) throw new IllegalArgumentException("Reasoning effort must not be null");
+
+            // Set Reasoning Effort
+            this.reasoningEffort = reasoningEffort;
+            return this;
+        }
+
+        // Set Instructions
+        public Builder setInstructions(String instructions) {
+
+            // Check Instruction
+            if (instructions == null || instructions.isBlank()) throw new IllegalArgumentException("Instructions must not be null or blank");
+
+            // Set Instruction
+            this.instructions = instructions;
+            return this;
+        }
+
+        // Set Max Output Tokens
+        public Builder setMaxOutputTokens(int maxOutputTokens) {
+
+            // Check Max Output Tokens
+            if (maxOutputTokens < 1) throw new IllegalArgumentException("MaxOutputTokens must be positive");
+
+            // Set Max Output Tokens
+            this.maxOutputTokens = maxOutputTokens;
+            return this;
+        }
+
+        // Set Lean, drops the SDK Request and Response after parsing
+        public Builder setLean(boolean lean) {
+            this.lean = lean;
+            return this;
+        }
+
+        // Set Latency SLO, Tiers with a slower observed average are skipped, apart from one Probe every 10 Seconds
+        public Builder setLatency(Duration latency) {
+
+            // Check Latency
+            if (latency == null || latency.isNegative() || latency.isZero()) throw new IllegalArgumentException("Latency must be positive");
+
+            // Set Latency
+            this.latency = latency;
+            return this;
+        }
+
+        // Set Cost Budget per Request in USD
+        public Builder setBudget(BigDecimal budget) {
+
+            // Check Budget
+            if (budget == null || budget.signum() <= 0) throw new IllegalArgumentException("Budget must be positive");
+
+            // Set Budget
+            this.budget = budget;
+            return this;
+        }
+
+        // Set Max Attempts including Escalations
+        public Builder setMaxAttempts(int maxAttempts) {
+
+            // Check Max Attempts
+            if (maxAttempts < 1) throw new IllegalArgumentException("Max attempts must be positive");
+
+            // Set Max Attempts
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+    }
+}
\ No newline at end of file
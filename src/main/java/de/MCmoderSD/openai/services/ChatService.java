@@ -1,23 +1,62 @@
 package de.MCmoderSD.openai.services;
 
 import com.openai.client.OpenAIClient;
+import com.openai.core.RequestOptions;
 import com.openai.models.Reasoning;
 import com.openai.models.ReasoningEffort;
+import com.openai.models.responses.Response;
 import com.openai.models.responses.ResponseCreateParams;
+import com.openai.services.async.ResponseServiceAsync;
 import com.openai.services.blocking.ResponseService;
 
+import de.MCmoderSD.openai.core.Execution;
 import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.core.RequestContext;
+import de.MCmoderSD.openai.core.RetryPolicy;
+import de.MCmoderSD.openai.flow.RequestProcessor;
+import de.MCmoderSD.openai.flow.StreamPublisher;
+import de.MCmoderSD.openai.metrics.MetricsRecorder;
 import de.MCmoderSD.openai.models.ChatModel;
+import de.MCmoderSD.openai.objects.LatencyWindow;
 import de.MCmoderSD.openai.prompts.ChatPrompt;
-
+import de.MCmoderSD.openai.trace.Trace;
+import de.MCmoderSD.openai.trace.Tracer;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import static de.MCmoderSD.openai.enums.Phase.*;
 import static de.MCmoderSD.openai.models.ChatModel.*;
 import static com.openai.models.ReasoningEffort.*;
 
 @SuppressWarnings("unused")
 public class ChatService {
 
+    // Constants
+    private static final String NAME = "chat";
+    private static final int MIN_SAMPLES = 20;
+    private static final int REFRESH_SAMPLES = 32;
+
     // Attributes
     private final ResponseService service;
+    private final ResponseServiceAsync asyncService;
+    private final LatencyWindow window;
+    private final AtomicLong requests;
+    private final AtomicLong hedges;
+    private final MetricsRecorder metrics;
+    private final Tracer tracer;
+    private final Supplier<ExecutorService> executor;
+    private final RetryPolicy retryPolicy;
 
     // Parameters
     private final ChatModel model;
@@ -26,20 +65,40 @@ public class ChatService {
     private final double temperature;
     private final double topP;
     private final int maxOutputTokens;
+    private final boolean lean;
+
+    // Hedging
+    private final double hedgePercentile;
+    private final long hedgeDelay;
+    private final double hedgeBudget;
+    private final ChatModel hedgeModel;
 
     // Constructor
-    private ChatService(OpenAIClient client, ChatModel model, ReasoningEffort reasoningEffort, String instructions, double temperature, double topP, int maxOutputTokens) {
+    private ChatService(OpenAIClient client, ChatModel model, ReasoningEffort reasoningEffort, String instructions, double temperature, double topP, int maxOutputTokens, boolean lean, double hedgePercentile, Duration hedgeDelay, double hedgeBudget, ChatModel hedgeModel, MetricsRecorder metrics, Tracer tracer, Supplier<ExecutorService> executor, RetryPolicy retryPolicy) {
         service = client.responses();
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.executor = executor;
+        this.retryPolicy = retryPolicy;
+        asyncService = client.async().responses();
+        window = hedgePercentile > 0 ? new LatencyWindow(1024) : null;
+        requests = new AtomicLong();
+        hedges = new AtomicLong();
+        this.hedgePercentile = hedgePercentile;
+        this.hedgeDelay = hedgeDelay.toNanos();
+        this.hedgeBudget = hedgeBudget;
+        this.hedgeModel = hedgeModel == null ? model : hedgeModel;
         this.model = model;
         this.reasoningEffort = reasoningEffort;
         this.instructions = instructions;
         this.temperature = temperature;
         this.topP = topP;
         this.maxOutputTokens = maxOutputTokens;
+        this.lean = lean;
     }
 
     // Builder
-    private ResponseCreateParams buildParams(String prompt, String previousResponseId) {
+    private ResponseCreateParams buildParams(ChatModel model, String prompt, String previousResponseId) {
 
         // Init Builder
         var builder = ResponseCreateParams.builder();
@@ -52,7 +111,7 @@ public class ChatService {
         // Add optional parameters
         if (!instructions.isBlank()) builder.instructions(instructions);
         if (model.hasReasoning(reasoningEffort)) builder.reasoning(Reasoning.builder().effort(reasoningEffort).build());
-        if (maxOutputTokens > 0) builder.maxOutputTokens(maxOutputTokens);
+        if (maxOutputTokens > 0) builder.maxOutputTokens(Math.min(maxOutputTokens, model.getMaxOutputTokens()));
 
         // Add previous response ID if provided
         if (previousResponseId.startsWith("resp_")) builder.previousResponseId(previousResponseId);
@@ -71,13 +130,11 @@ public class ChatService {
         if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
 
         // Create Chat request
-        var request = buildParams(prompt, "");
+        var trace = tracer.start(NAME, model.getName());
+        var request = trace.phase(BUILD_PARAMS, () -> buildParams(model, prompt, ""));
 
-        // Create Response
-        var response = service.create(request);
-
-        // Return Chat Prompt
-        return new ChatPrompt(request, response);
+        // Create Response and Chat Prompt
+        return execute(trace, request, prompt, "", null);
     }
 
     // Create Chat with previous chat history
@@ -88,13 +145,250 @@ public class ChatService {
         if (previousResponseId == null || !previousResponseId.startsWith("resp_")) throw new IllegalArgumentException("Previous response ID must be null or start with 'resp_'");
 
         // Create Chat request
-        var request = buildParams(prompt, previousResponseId);
+        var trace = tracer.start(NAME, model.getName());
+        var request = trace.phase(BUILD_PARAMS, () -> buildParams(model, prompt, previousResponseId));
+
+        // Create Response and Chat Prompt
+        return execute(trace, request, prompt, previousResponseId, null);
+    }
+
+    // Create fresh Chat within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public ChatPrompt create(String prompt, RequestContext context) {
+
+        // Check Parameters
+        if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+
+        // Create Chat request
+        var trace = tracer.start(NAME, model.getName());
+        var request = trace.phase(BUILD_PARAMS, () -> buildParams(model, prompt, ""));
+
+        // Create Response and Chat Prompt
+        return execute(trace, request, prompt, "", context);
+    }
+
+    // Create Chat with previous chat history within the Deadline of the Context
+    public ChatPrompt create(String prompt, String previousResponseId, RequestContext context) {
+
+        // Check Parameters
+        if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
+        if (previousResponseId == null || !previousResponseId.startsWith("resp_")) throw new IllegalArgumentException("Previous response ID must be null or start with 'resp_'");
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+
+        // Create Chat request
+        var trace = tracer.start(NAME, model.getName());
+        var request = trace.phase(BUILD_PARAMS, () -> buildParams(model, prompt, previousResponseId));
+
+        // Create Response and Chat Prompt
+        return execute(trace, request, prompt, previousResponseId, context);
+    }
+
+    // Create fresh Chat on the Executor
+    public CompletableFuture<ChatPrompt> createAsync(String prompt) {
+        return Execution.submit(executor.get(), () -> create(prompt));
+    }
+
+    // Create Chat with previous chat history on the Executor
+    public CompletableFuture<ChatPrompt> createAsync(String prompt, String previousResponseId) {
+        return Execution.submit(executor.get(), () -> create(prompt, previousResponseId));
+    }
+
+    // Create Chats for each Prompt, Demand is capped at Max in Flight and Results arrive in Completion Order
+    public Flow.Publisher<ChatPrompt> create(Flow.Publisher<String> prompts, int maxInFlight) {
+        if (prompts == null) throw new IllegalArgumentException("Prompts must not be null");
+        var processor = new RequestProcessor<String, ChatPrompt>(executor.get(), maxInFlight, this::create);
+        prompts.subscribe(processor);
+        return processor;
+    }
+
+    // Stream fresh Chat as Text Deltas, cancelling the Subscription closes the Connection
+    public Flow.Publisher<String> stream(String prompt) {
+        return stream(prompt, RequestContext::create);
+    }
+
+    // Stream fresh Chat as Text Deltas, cancelling the Subscription or the Context closes the Connection
+    public Flow.Publisher<String> stream(String prompt, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return stream(prompt, context::child);
+    }
+
+    // Stream Deltas on Subscription, each Subscription runs under its own Context
+    private Flow.Publisher<String> stream(String prompt, Supplier<RequestContext> contexts) {
+
+        // Check Parameters
+        if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
+
+        // Stream Deltas on Subscription
+        return new StreamPublisher<>(executor.get(), Flow.defaultBufferSize(), contexts, (publisher, context) -> {
+
+            // Create Chat request
+            var trace = tracer.start(NAME, model.getName());
+            var request = trace.phase(BUILD_PARAMS, () -> buildParams(model, prompt, ""));
+            var mark = trace.mark();
+
+            // Read Events
+            var start = System.nanoTime();
+            ChatPrompt chatPrompt = null;
+            try (var response = retryPolicy.execute(() -> service.createStreaming(request, context.options()), context); var registration = context.closeOnCancel(response)) {
+                var events = response.stream().iterator();
+                while (publisher.hasSubscribers() && events.hasNext()) {
+                    var event = events.next();
+                    if (event.isOutputTextDelta()) publisher.submit(event.asOutputTextDelta().delta());
+                    else if (event.isCompleted()) chatPrompt = new ChatPrompt(request, event.asCompleted().response(), lean);
+                }
+                trace.phase(NETWORK, mark);
+            } catch (RuntimeException e) {
+                var failure = context.isCancelled() ? context.getCause() : e;
+                metrics.failure(NAME, model.getName(), System.nanoTime() - start, failure);
+                trace.end(failure);
+                throw failure;
+            }
+
+            // Cancelled before Completion
+            if (chatPrompt == null) {
+                trace.end(new CancellationException("Stream cancelled"));
+                return;
+            }
+
+            // Record Metrics
+            recordSuccess(chatPrompt, start);
+            trace.end(null);
+        });
+    }
+
+    // Execute Request, record Metrics and Trace Phases
+    private ChatPrompt execute(Trace trace, ResponseCreateParams request, String prompt, String previousResponseId, RequestContext context) {
+        var start = System.nanoTime();
+        ChatPrompt chatPrompt;
+        try {
+
+            // Send Request
+            var mark = trace.mark();
+            var response = retryPolicy.execute(() -> send(request, prompt, previousResponseId, context), context);
+            mark = trace.phase(NETWORK, mark);
+
+            // Parse Response
+            chatPrompt = new ChatPrompt(request, response, lean);
+            trace.phase(PARSE, mark);
+        } catch (RuntimeException e) {
+            metrics.failure(NAME, model.getName(), System.nanoTime() - start, e);
+            trace.end(e);
+            throw e;
+        }
+
+        // Record Metrics, outside the Request so a Sink can't turn a Success into a Failure
+        recordSuccess(chatPrompt, start);
+        trace.end(null);
+        return chatPrompt;
+    }
+
+    // Record Tokens and Cost of the Model that answered
+    private void recordSuccess(ChatPrompt chatPrompt, long start) {
+        var chatModel = chatPrompt.getModel();
+        metrics.success(NAME, chatModel.getName(), System.nanoTime() - start, chatPrompt.getInputTokens(), chatPrompt.getOutputTokens(), chatPrompt.getCachedInputTokens(), chatPrompt.getReasoningTokens(), chatModel.getInputCost(chatPrompt.getInputTokens()).add(chatModel.getOutputCost(chatPrompt.getOutputTokens())));
+    }
+
+    // Send Request, hedged if enabled
+    private Response send(ResponseCreateParams request, String prompt, String previousResponseId, RequestContext context) {
+
+        // Plain Request
+        if (window == null) return context == null ? service.create(request) : context.call(options -> asyncService.create(request, options));
+        requests.incrementAndGet();
+
+        // Send Primary
+        var options = context == null ? RequestOptions.none() : context.options();
+        var start = System.nanoTime();
+        var primary = asyncService.create(request, options);
+        // Sample successful Primaries, a cancelled Primary lost the Race and counts as censored at its elapsed Time
+        // Fast Failures are skipped, they would pull the Delay down
+        primary.whenComplete((response, throwable) -> {
+            if (throwable == null || throwable instanceof CancellationException) window.record(System.nanoTime() - start);
+        });
+
+        // Wait for Hedge Delay, the Context cancels the Primary
+        try (var registration = context == null ? null : context.onCancel(() -> primary.cancel(true))) {
+            return primary.get(currentHedgeDelay(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!acquireHedge()) return await(primary, context);
+        } catch (CancellationException e) {
+            throw context != null && context.isCancelled() ? context.getCause() : e;
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for chat response", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        // Send Hedge
+        var hedge = asyncService.create(hedgeModel == model ? request : buildParams(hedgeModel, prompt, previousResponseId), options);
+
+        // First successful Response wins
+        var winner = new CompletableFuture<Response>();
+        var pending = new AtomicInteger(2);
+        BiConsumer<Response, Throwable> race = (response, throwable) -> {
+            if (throwable == null) winner.complete(response);
+            else if (pending.decrementAndGet() == 0) winner.completeExceptionally(throwable);
+        };
+        primary.whenComplete(race);
+        hedge.whenComplete(race);
+
+        // Cancel the Loser
+        try {
+            return await(winner, context);
+        } finally {
+            primary.cancel(true);
+            hedge.cancel(true);
+        }
+    }
+
+    // Hedge Delay from observed Percentile, recomputed every few Samples rather than sorting the Window per Request
+    private long currentHedgeDelay() {
+        if (window.getCount() < MIN_SAMPLES) return hedgeDelay;
+        return Math.max(window.percentile(hedgePercentile, REFRESH_SAMPLES), 0);
+    }
+
+    // Check Hedge Budget
+    private boolean acquireHedge() {
+        while (true) {
+            var current = hedges.get();
+            if (current + 1 > Math.ceil(requests.get() * hedgeBudget)) return false;
+            if (hedges.compareAndSet(current, current + 1)) return true;
+        }
+    }
 
-        // Create Response
-        var response = service.create(request);
+    // Await Future, bounded by the Context if present
+    private static Response await(CompletableFuture<Response> future, RequestContext context) {
+        if (context != null) return context.await(future);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for chat response", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    // Unwrap Execution Exception
+    private static RuntimeException unwrap(ExecutionException e) {
+        var cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        return new RuntimeException("Failed to create chat: " + cause.getMessage(), cause);
+    }
+
+    // Getter
+    public ChatModel getModel() {
+        return model;
+    }
 
-        // Return Chat Prompt
-        return new ChatPrompt(request, response);
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    public Duration getHedgeDelay() {
+        return window == null ? Duration.ZERO : Duration.ofNanos(currentHedgeDelay());
     }
 
     // Static Builder
@@ -112,6 +406,11 @@ public class ChatService {
         private double temperature;
         private double topP;
         private int maxOutputTokens;
+        private boolean lean;
+        private double hedgePercentile;
+        private Duration hedgeDelay;
+        private double hedgeBudget;
+        private ChatModel hedgeModel;
 
         // Constructor
         private Builder() {
@@ -121,6 +420,11 @@ public class ChatService {
             temperature = 1d;
             topP = 1d;
             maxOutputTokens = 0;
+            lean = false;
+            hedgePercentile = 0;
+            hedgeDelay = Duration.ofSeconds(5);
+            hedgeBudget = 0.1;
+            hedgeModel = null;
         }
 
         // Build
@@ -132,7 +436,7 @@ public class ChatService {
             if (maxOutputTokens > model.getMaxOutputTokens()) throw new IllegalArgumentException("Max output tokens must be less than or equal to the model's maximum output tokens");
 
             // Return Service
-            return new ChatService(openAI.getClient(), model, reasoningEffort, instructions, temperature, topP, maxOutputTokens);
+            return new ChatService(openAI.getClient(), model, reasoningEffort, instructions, temperature, topP, maxOutputTokens, lean, hedgePercentile, hedgeDelay, hedgeBudget, hedgeModel, openAI.getMetrics(), openAI.getTracer(), openAI::getExecutor, openAI.getRetryPolicy());
         }
 
         // Set Model
@@ -201,6 +505,56 @@ public class ChatService {
             return this;
         }
 
+        // Set Lean, drops the SDK Request and Response after parsing
+        public Builder setLean(boolean lean) {
+            this.lean = lean;
+            return this;
+        }
+
+        // Enable Hedging, a duplicate Request is sent once the Percentile of observed Latency has passed
+        public Builder setHedging(double hedgePercentile) {
+
+            // Check Percentile
+            if (hedgePercentile <= 0 || hedgePercentile >= 1) throw new IllegalArgumentException("Hedge percentile must be between 0 and 1");
+
+            // Set Percentile
+            this.hedgePercentile = hedgePercentile;
+            return this;
+        }
+
+        // Set Hedge Delay used until enough Latency is observed
+        public Builder setHedgeDelay(Duration hedgeDelay) {
+
+            // Check Delay
+            if (hedgeDelay == null || hedgeDelay.isNegative()) throw new IllegalArgumentException("Hedge delay must not be null or negative");
+
+            // Set Delay
+            this.hedgeDelay = hedgeDelay;
+            return this;
+        }
+
+        // Set Hedge Budget as the maximum Ratio of hedged Requests
+        public Builder setHedgeBudget(double hedgeBudget) {
+
+            // Check Budget
+            if (hedgeBudget <= 0 || hedgeBudget > 1) throw new IllegalArgumentException("Hedge budget must be between 0 and 1");
+
+            // Set Budget
+            this.hedgeBudget = hedgeBudget;
+            return this;
+        }
+
+        // Set Hedge Model, defaults to the primary Model
+        public Builder setHedgeModel(ChatModel hedgeModel) {
+
+            // Check Model
+            if (hedgeModel == null) throw new IllegalArgumentException("Hedge model must not be null");
+
+            // Set Model
+            this.hedgeModel = hedgeModel;
+            return this;
+        }
+
         // Helper Method
         private ReasoningEffort lowestAvailableReasoning() {
             if (reasoningEffort == null) {
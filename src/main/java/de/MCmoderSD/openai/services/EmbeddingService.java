@@ -3,28 +3,55 @@ package de.MCmoderSD.openai.services;
 import com.openai.client.OpenAIClient;
 import com.openai.models.embeddings.EmbeddingCreateParams;
 
+import de.MCmoderSD.openai.core.Execution;
 import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.core.RequestContext;
+import de.MCmoderSD.openai.core.RetryPolicy;
+import de.MCmoderSD.openai.flow.RequestProcessor;
+import de.MCmoderSD.openai.metrics.MetricsRecorder;
 import de.MCmoderSD.openai.models.EmbeddingModel;
 import de.MCmoderSD.openai.prompts.EmbeddingPrompt;
+import de.MCmoderSD.openai.trace.Tracer;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import static de.MCmoderSD.openai.enums.Phase.*;
 import static de.MCmoderSD.openai.models.EmbeddingModel.*;
 import static com.openai.models.embeddings.EmbeddingCreateParams.EncodingFormat.*;
 
 @SuppressWarnings("unused")
 public class EmbeddingService {
 
+    // Constants
+    private static final String NAME = "embedding";
+
     // Attributes
     private final com.openai.services.blocking.EmbeddingService service;
+    private final com.openai.services.async.EmbeddingServiceAsync asyncService;
+    private final MetricsRecorder metrics;
+    private final Tracer tracer;
+    private final Supplier<ExecutorService> executor;
+    private final RetryPolicy retryPolicy;
 
     // Parameters
     private final EmbeddingModel model;
     private final String user;
+    private final boolean lean;
 
     // Constructor
-    private EmbeddingService(OpenAIClient client, EmbeddingModel model, String user) {
+    private EmbeddingService(OpenAIClient client, EmbeddingModel model, String user, boolean lean, MetricsRecorder metrics, Tracer tracer, Supplier<ExecutorService> executor, RetryPolicy retryPolicy) {
         service = client.embeddings();
+        asyncService = client.async().embeddings();
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.executor = executor;
+        this.retryPolicy = retryPolicy;
         this.model = model;
         this.user = user;
+        this.lean = lean;
     }
 
     // Builder
@@ -45,18 +72,59 @@ public class EmbeddingService {
 
     // Create Embedding
     public EmbeddingPrompt create(String prompt) {
+        return execute(prompt, null);
+    }
+
+    // Create Embedding within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public EmbeddingPrompt create(String prompt, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return execute(prompt, context);
+    }
+
+    // Execute Request, the Context is optional
+    private EmbeddingPrompt execute(String prompt, RequestContext context) {
 
         // Check Parameters
         if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
 
         // Create Embedding request
-        var request = buildParams(prompt);
+        var trace = tracer.start(NAME, model.getName());
+        var request = trace.phase(BUILD_PARAMS, () -> buildParams(prompt));
 
         // Create Embedding
-        var response = service.create(request);
+        var start = System.nanoTime();
+        EmbeddingPrompt embeddingPrompt;
+        try {
+            var mark = trace.mark();
+            var response = retryPolicy.execute(() -> context == null ? service.create(request) : context.call(options -> asyncService.create(request, options)), context);
+            mark = trace.phase(NETWORK, mark);
+            embeddingPrompt = new EmbeddingPrompt(request, response, lean);
+            trace.phase(PARSE, mark);
+        } catch (RuntimeException e) {
+            metrics.failure(NAME, model.getName(), System.nanoTime() - start, e);
+            trace.end(e);
+            throw e;
+        }
+
+        // Record Metrics
+        metrics.success(NAME, model.getName(), System.nanoTime() - start, embeddingPrompt.getPromptTokens(), 0, 0, 0, embeddingPrompt.getTotalCost());
+        trace.end(null);
 
         // Return Embedding Prompt
-        return new EmbeddingPrompt(request, response);
+        return embeddingPrompt;
+    }
+
+    // Create Embedding on the Executor
+    public CompletableFuture<EmbeddingPrompt> createAsync(String prompt) {
+        return Execution.submit(executor.get(), () -> create(prompt));
+    }
+
+    // Create Embeddings for each Prompt, Demand is capped at Max in Flight and Results arrive in Completion Order
+    public Flow.Publisher<EmbeddingPrompt> create(Flow.Publisher<String> prompts, int maxInFlight) {
+        if (prompts == null) throw new IllegalArgumentException("Prompts must not be null");
+        var processor = new RequestProcessor<String, EmbeddingPrompt>(executor.get(), maxInFlight, this::create);
+        prompts.subscribe(processor);
+        return processor;
     }
 
     // Static Builder
@@ -70,11 +138,13 @@ public class EmbeddingService {
         // Parameter
         private EmbeddingModel model;
         private String user;
+        private boolean lean;
 
         // Constructor
         private Builder() {
             model = TEXT_EMBEDDING_3_LARGE;
             user = "";
+            lean = false;
         }
 
         // Build
@@ -84,7 +154,7 @@ public class EmbeddingService {
             if (openAI == null) throw new IllegalArgumentException("OpenAI must not be null");
 
             // Return Service
-            return new EmbeddingService(openAI.getClient(), model, user);
+            return new EmbeddingService(openAI.getClient(), model, user, lean, openAI.getMetrics(), openAI.getTracer(), openAI::getExecutor, openAI.getRetryPolicy());
         }
 
         // Set Model
@@ -109,5 +179,11 @@ public class EmbeddingService {
             this.user = user;
             return this;
         }
+
+        // Set Lean, drops the SDK Request and Response after parsing
+        public Builder setLean(boolean lean) {
+            this.lean = lean;
+            return this;
+        }
     }
 }
\ No newline at end of file
@@ -3,25 +3,59 @@ package de.MCmoderSD.openai.services;
 import com.openai.client.OpenAIClient;
 import com.openai.models.moderations.ModerationCreateParams;
 
+import de.MCmoderSD.openai.cache.ModerationCache;
+import de.MCmoderSD.openai.core.Execution;
 import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.core.RequestContext;
+import de.MCmoderSD.openai.core.RetryPolicy;
+import de.MCmoderSD.openai.filter.ModerationFilter;
+import de.MCmoderSD.openai.flow.RequestProcessor;
+import de.MCmoderSD.openai.metrics.MetricsRecorder;
 import de.MCmoderSD.openai.models.ModerationModel;
 import de.MCmoderSD.openai.prompts.ModerationPrompt;
+import de.MCmoderSD.openai.trace.Tracer;
 
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import static de.MCmoderSD.openai.enums.Phase.*;
 import static de.MCmoderSD.openai.models.ModerationModel.*;
 
 @SuppressWarnings("unused")
 public class ModerationService {
 
+    // Constants
+    private static final String NAME = "moderation";
+
     // Attributes
     private final com.openai.services.blocking.ModerationService service;
+    private final com.openai.services.async.ModerationServiceAsync asyncService;
+    private final MetricsRecorder metrics;
+    private final Tracer tracer;
+    private final Supplier<ExecutorService> executor;
+    private final RetryPolicy retryPolicy;
 
     // Parameters
     private final ModerationModel model;
+    private final ModerationCache cache;
+    private final ModerationFilter filter;
+    private final boolean lean;
 
     // Constructor
-    private ModerationService(OpenAIClient client, ModerationModel model) {
+    private ModerationService(OpenAIClient client, ModerationModel model, ModerationCache cache, ModerationFilter filter, boolean lean, MetricsRecorder metrics, Tracer tracer, Supplier<ExecutorService> executor, RetryPolicy retryPolicy) {
         service = client.moderations();
+        asyncService = client.async().moderations();
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.executor = executor;
+        this.retryPolicy = retryPolicy;
         this.model = model;
+        this.cache = cache;
+        this.filter = filter;
+        this.lean = lean;
     }
 
     // Builder
@@ -40,18 +74,92 @@ public class ModerationService {
 
     // Create Moderation
     public ModerationPrompt create(String prompt) {
+        return execute(prompt, null);
+    }
+
+    // Create Moderation within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public ModerationPrompt create(String prompt, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return execute(prompt, context);
+    }
+
+    // Execute Request, the Context is optional
+    private ModerationPrompt execute(String prompt, RequestContext context) {
 
         // Check Parameters
         if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
 
         // Create Moderation request
-        var request = buildParams(prompt);
+        var trace = tracer.start(NAME, model.getName());
+        var request = trace.phase(BUILD_PARAMS, () -> buildParams(prompt));
+
+        // Check Filter
+        var start = System.nanoTime();
+        if (filter != null) {
+            var rating = trace.run(() -> filter.classify(prompt));
+            if (rating != null) {
+                metrics.hit(NAME, model.getName(), System.nanoTime() - start);
+                trace.end(null);
+                return new ModerationPrompt(request, model, rating, false, lean);
+            }
+        }
+
+        // Check Cache
+        if (cache != null) {
+            var rating = trace.run(() -> cache.get(model, prompt));
+            if (rating != null) {
+                metrics.hit(NAME, model.getName(), System.nanoTime() - start);
+                trace.end(null);
+                return new ModerationPrompt(request, model, rating, true, lean);
+            }
+        }
 
         // Create Moderation
-        var response = service.create(request);
+        start = System.nanoTime();
+        ModerationPrompt moderationPrompt;
+        try {
+            var mark = trace.mark();
+            var response = retryPolicy.execute(() -> context == null ? service.create(request) : context.call(options -> asyncService.create(request, options)), context);
+            mark = trace.phase(NETWORK, mark);
+            moderationPrompt = new ModerationPrompt(request, response, lean);
+            trace.phase(PARSE, mark);
+        } catch (RuntimeException e) {
+            metrics.failure(NAME, model.getName(), System.nanoTime() - start, e);
+            trace.end(e);
+            throw e;
+        }
+
+        // Record Metrics
+        metrics.success(NAME, model.getName(), System.nanoTime() - start, 0, 0, 0, 0, BigDecimal.ZERO);
+        trace.end(null);
+
+        // Update Cache
+        if (cache != null) cache.put(model, prompt, moderationPrompt.getRating());
 
         // Return Moderation Prompt
-        return new ModerationPrompt(request, response);
+        return moderationPrompt;
+    }
+
+    // Create Moderation on the Executor
+    public CompletableFuture<ModerationPrompt> createAsync(String prompt) {
+        return Execution.submit(executor.get(), () -> create(prompt));
+    }
+
+    // Create Moderations for each Prompt, Demand is capped at Max in Flight and Results arrive in Completion Order
+    public Flow.Publisher<ModerationPrompt> create(Flow.Publisher<String> prompts, int maxInFlight) {
+        if (prompts == null) throw new IllegalArgumentException("Prompts must not be null");
+        var processor = new RequestProcessor<String, ModerationPrompt>(executor.get(), maxInFlight, this::create);
+        prompts.subscribe(processor);
+        return processor;
+    }
+
+    // Getter
+    public ModerationCache getCache() {
+        return cache;
+    }
+
+    public ModerationFilter getFilter() {
+        return filter;
     }
 
     // Static Builder
@@ -64,10 +172,16 @@ public class ModerationService {
 
         // Parameter
         private ModerationModel model;
+        private ModerationCache cache;
+        private ModerationFilter filter;
+        private boolean lean;
 
         // Constructor
         private Builder() {
             model = OMNI_MODERATION_LATEST;
+            cache = null;
+            filter = null;
+            lean = false;
         }
 
         // Build
@@ -77,7 +191,7 @@ public class ModerationService {
             if (openAI == null) throw new IllegalArgumentException("OpenAI must not be null");
 
             // Return Service
-            return new ModerationService(openAI.getClient(), model);
+            return new ModerationService(openAI.getClient(), model, cache, filter, lean, openAI.getMetrics(), openAI.getTracer(), openAI::getExecutor, openAI.getRetryPolicy());
         }
 
         // Set Model
@@ -90,5 +204,33 @@ public class ModerationService {
             this.model = model;
             return this;
         }
+
+        // Set Cache
+        public Builder setCache(ModerationCache cache) {
+
+            // Check Cache
+            if (cache == null) throw new IllegalArgumentException("Cache must not be null");
+
+            // Set Cache
+            this.cache = cache;
+            return this;
+        }
+
+        // Set Filter
+        public Builder setFilter(ModerationFilter filter) {
+
+            // Check Filter
+            if (filter == null) throw new IllegalArgumentException("Filter must not be null");
+
+            // Set Filter
+            this.filter = filter;
+            return this;
+        }
+
+        // Set Lean, drops the SDK Request and Response after parsing
+        public Builder setLean(boolean lean) {
+            this.lean = lean;
+            return this;
+        }
     }
 }
\ No newline at end of file
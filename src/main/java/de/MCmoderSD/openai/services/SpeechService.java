@@ -1,22 +1,58 @@
 package de.MCmoderSD.openai.services;
 
 import com.openai.client.OpenAIClient;
+import com.openai.core.http.HttpResponse;
 import com.openai.models.audio.speech.SpeechCreateParams;
 import com.openai.models.audio.speech.SpeechCreateParams.ResponseFormat;
 
+import de.MCmoderSD.openai.cache.SpeechCache;
+import de.MCmoderSD.openai.core.Execution;
+import de.MCmoderSD.openai.core.HttpStatusException;
 import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.core.RequestContext;
+import de.MCmoderSD.openai.core.RetryPolicy;
 import de.MCmoderSD.openai.enums.Voice;
+import de.MCmoderSD.openai.flow.RequestProcessor;
+import de.MCmoderSD.openai.metrics.MetricsRecorder;
 import de.MCmoderSD.openai.models.SpeechModel;
+import de.MCmoderSD.openai.objects.Wave;
 import de.MCmoderSD.openai.prompts.SpeechPrompt;
-
+import de.MCmoderSD.openai.prompts.SpeechStream;
+import de.MCmoderSD.openai.trace.Trace;
+import de.MCmoderSD.openai.trace.Tracer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static de.MCmoderSD.openai.enums.Phase.*;
 import static de.MCmoderSD.openai.models.SpeechModel.*;
 import static de.MCmoderSD.openai.enums.Voice.*;
 import static com.openai.models.audio.speech.SpeechCreateParams.ResponseFormat.*;
 
 public class SpeechService {
 
+    // Constants
+    private static final String NAME = "speech";
+
     // Attributes
     private final com.openai.services.blocking.audio.SpeechService service;
+    private final com.openai.services.async.audio.SpeechServiceAsync asyncService;
+    private final MetricsRecorder metrics;
+    private final Tracer tracer;
+    private final Supplier<ExecutorService> executor;
+    private final RetryPolicy retryPolicy;
 
     // Parameters
     private final SpeechModel model;
@@ -24,15 +60,26 @@ public class SpeechService {
     private final double speed;
     private final Voice voice;
     private final ResponseFormat format;
+    private final int parallelism;
+    private final SpeechCache cache;
+    private final boolean lean;
 
     // Constructor
-    private SpeechService(OpenAIClient client, SpeechModel model, String instructions, double speed, Voice voice, ResponseFormat format) {
+    private SpeechService(OpenAIClient client, SpeechModel model, String instructions, double speed, Voice voice, ResponseFormat format, int parallelism, SpeechCache cache, boolean lean, MetricsRecorder metrics, Tracer tracer, Supplier<ExecutorService> executor, RetryPolicy retryPolicy) {
         service = client.audio().speech();
+        asyncService = client.async().audio().speech();
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.executor = executor;
+        this.retryPolicy = retryPolicy;
         this.model = model;
         this.instructions = instructions;
         this.speed = speed;
         this.voice = voice;
         this.format = format;
+        this.parallelism = parallelism;
+        this.cache = cache;
+        this.lean = lean;
     }
 
     // Builder
@@ -53,24 +100,259 @@ public class SpeechService {
         return builder.build();
     }
 
+    // Execute Request, the Context is optional
+    private HttpResponse execute(Trace trace, SpeechCreateParams request, RequestContext context) {
+
+        // Create Response, a non-200 Status fails the Attempt so it can be retried
+        var start = System.nanoTime();
+        var mark = trace.mark();
+        HttpResponse response;
+        try {
+            response = retryPolicy.execute(() -> {
+                var attempt = context == null ? service.create(request) : context.call(options -> asyncService.create(request, options));
+                var status = attempt.statusCode();
+                if (status == 200) return attempt;
+                var exception = new HttpStatusException("Failed to create speech", status, attempt.headers());
+                attempt.close();
+                throw exception;
+            }, context);
+        } catch (RuntimeException e) {
+            metrics.failure(NAME, model.getName(), System.nanoTime() - start, e);
+            trace.end(e);
+            throw e;
+        }
+        trace.phase(NETWORK, mark);
+
+        // Record Metrics
+        var characters = request.input().length();
+        metrics.success(NAME, model.getName(), System.nanoTime() - start, characters, 0, 0, 0, model.getCost(characters));
+
+        // Return Response
+        return response;
+    }
+
     // Create Speech
     public SpeechPrompt create(String prompt) {
+        return execute(prompt, null);
+    }
+
+    // Create Speech within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public SpeechPrompt create(String prompt, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return execute(prompt, context);
+    }
+
+    // Create Speech, the Context is optional
+    private SpeechPrompt execute(String prompt, RequestContext context) {
 
         // Check Parameters
         if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
 
         // Create
-        var request = buildParams(prompt);
+        var trace = tracer.start(NAME, model.getName());
+        var request = trace.phase(BUILD_PARAMS, () -> buildParams(prompt));
+
+        // Check Cache
+        var key = cache == null ? null : SpeechCache.key(model, voice, speed, instructions, format, prompt);
+        if (cache != null) {
+            var start = System.nanoTime();
+            var buffer = trace.run(() -> cache.get(key));
+            if (buffer != null) {
+                metrics.hit(NAME, model.getName(), System.nanoTime() - start);
+                trace.end(null);
+                return new SpeechPrompt(request, buffer, lean);
+            }
+        }
 
         // Create Response
-        var response = service.create(request);
+        var response = execute(trace, request, context);
+
+        // Read Body, the Context closes the Body on Cancellation
+        var mark = trace.mark();
+        SpeechPrompt speechPrompt;
+        try (var registration = context == null ? null : context.closeOnCancel(response)) {
+            speechPrompt = new SpeechPrompt(request, response, lean);
+        } catch (RuntimeException e) {
+            var failure = context != null && context.isCancelled() ? context.getCause() : e;
+            trace.end(failure);
+            throw failure;
+        }
+        trace.phase(READ_BODY, mark);
+        trace.end(null);
 
-        // Check Response Status
-        var status = response.statusCode();
-        if (status != 200) throw new RuntimeException("Failed to create speech, HTTP status code: " + status);
+        // Update Cache
+        if (cache != null) cache.put(key, speechPrompt.getData());
 
         // Return Speech Prompt
-        return new SpeechPrompt(request, response);
+        return speechPrompt;
+    }
+
+    // Create Speech on the Executor
+    public CompletableFuture<SpeechPrompt> createAsync(String prompt) {
+        return Execution.submit(executor.get(), () -> create(prompt));
+    }
+
+    // Create Speech for each Prompt, Demand is capped at Max in Flight and Results arrive in Completion Order
+    public Flow.Publisher<SpeechPrompt> create(Flow.Publisher<String> prompts, int maxInFlight) {
+        if (prompts == null) throw new IllegalArgumentException("Prompts must not be null");
+        var processor = new RequestProcessor<String, SpeechPrompt>(executor.get(), maxInFlight, this::create);
+        prompts.subscribe(processor);
+        return processor;
+    }
+
+    // Stream Speech, the Body is read while it downloads
+    public SpeechStream stream(String prompt) {
+        return open(prompt, null);
+    }
+
+    // Stream Speech, cancelling the Context closes the Stream
+    public SpeechStream stream(String prompt, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return open(prompt, context);
+    }
+
+    // Open Speech Stream, the Context is optional
+    private SpeechStream open(String prompt, RequestContext context) {
+
+        // Check Parameters
+        if (prompt == null || prompt.isBlank()) throw new IllegalArgumentException("Prompt must not be null or blank");
+
+        // Create
+        var trace = tracer.start(NAME, model.getName());
+        var request = trace.phase(BUILD_PARAMS, () -> buildParams(prompt));
+
+        // Create Response, the Trace ends once the Headers arrived
+        var response = execute(trace, request, context);
+        trace.end(null);
+
+        // Return Speech Stream, closing it drops the Cancellation Callback so the Context doesn't retain it
+        if (context == null) return new SpeechStream(request, response);
+        var registration = context.closeOnCancel(response);
+        return new SpeechStream(request, response, registration::close);
+    }
+
+    // Stream Speech and push Chunks to the Consumer
+    public long stream(String prompt, Consumer<byte[]> consumer) {
+
+        // Check Consumer
+        if (consumer == null) throw new IllegalArgumentException("Consumer must not be null");
+
+        // Stream Chunks
+        return stream(prompt).forEach(consumer);
+    }
+
+    // Create Speech directly on Disk without buffering the Body on the Heap
+    public File toFile(String prompt, File file) {
+
+        // Check File
+        if (file == null) throw new IllegalArgumentException("File must not be null");
+        if (file.isDirectory()) throw new IllegalArgumentException("File must not be a directory");
+
+        // Check File Extension
+        var fileName = file.getName();
+        var extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+        if (!format.asString().equalsIgnoreCase(extension)) throw new IllegalArgumentException("File extension must match response format: " + format.asString());
+
+        // Transfer Body
+        return stream(prompt).toFile(file);
+    }
+
+    // Create long-form Speech, split at Sentence Boundaries and rendered in parallel
+    public SpeechPrompt createLong(String text) {
+        return executeLong(text, null);
+    }
+
+    // Create long-form Speech within the Deadline of the Context, cancelling the Context aborts every Chunk
+    public SpeechPrompt createLong(String text, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return executeLong(text, context);
+    }
+
+    // Create long-form Speech, the Context is optional
+    private SpeechPrompt executeLong(String text, RequestContext context) {
+
+        // Check Parameters
+        if (text == null || text.isBlank()) throw new IllegalArgumentException("Text must not be null or blank");
+        if (format == OPUS || format == FLAC) throw new IllegalArgumentException("Long-form speech does not support " + format.asString() + ", use mp3, aac, wav or pcm");
+
+        // Split Text
+        var chunks = split(text, model.getMaxInput());
+        if (chunks.size() == 1) return execute(chunks.getFirst(), context);
+
+        // Render Chunks with bounded Parallelism
+        var parts = new ArrayList<byte[]>(chunks.size());
+        try (var pool = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()), Thread.ofVirtual().factory())) {
+            var futures = new ArrayList<Future<byte[]>>(chunks.size());
+            try {
+                for (var chunk : chunks) futures.add(pool.submit(() -> execute(chunk, context).getData()));
+                for (var future : futures) parts.add(future.get());
+            } finally {
+
+                // Fail fast, outstanding Chunks are cancelled before closing the Pool waits for them
+                for (var future : futures) future.cancel(true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while creating long-form speech", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to create long-form speech: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        // Stitch Audio in Order
+        return new SpeechPrompt(buildParams(text), format == WAV ? stitchWav(parts) : concat(parts), lean);
+    }
+
+    // Split Text at Sentence Boundaries
+    private static List<String> split(String text, int limit) {
+
+        // Init Iterator
+        var chunks = new ArrayList<String>();
+        var iterator = BreakIterator.getSentenceInstance(Locale.ROOT);
+        iterator.setText(text);
+
+        // Accumulate Sentences
+        var chunk = new StringBuilder();
+        for (int start = iterator.first(), end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            var sentence = text.substring(start, end);
+
+            // Flush Chunk if the Sentence doesn't fit
+            if (chunk.length() + sentence.length() > limit && !chunk.isEmpty()) {
+                chunks.add(chunk.toString().strip());
+                chunk.setLength(0);
+            }
+
+            // Split oversized Sentences at Whitespace
+            while (sentence.length() > limit) {
+                var cut = sentence.lastIndexOf(' ', limit);
+                if (cut <= 0) cut = limit;
+                chunks.add(sentence.substring(0, cut).strip());
+                sentence = sentence.substring(cut);
+            }
+            chunk.append(sentence);
+        }
+
+        // Add last Chunk
+        if (!chunk.isEmpty()) chunks.add(chunk.toString().strip());
+        chunks.removeIf(String::isBlank);
+        return chunks;
+    }
+
+    // Concatenate raw Audio (PCM, MP3 and AAC Frames)
+    private static byte[] concat(List<byte[]> parts) {
+        var out = new ByteArrayOutputStream(parts.stream().mapToInt(part -> part.length).sum());
+        for (var part : parts) out.writeBytes(part);
+        return out.toByteArray();
+    }
+
+    // Stitch WAV Files, the Header is rewritten for the combined Data Length
+    private static byte[] stitchWav(List<byte[]> parts) {
+        var waves = parts.stream().map(Wave::parse).toList();
+        return Wave.write(waves.getFirst().getFormat(), waves.stream().map(Wave::getData).toList());
+    }
+
+    // Getter
+    public SpeechCache getCache() {
+        return cache;
     }
 
     // Static Builder
@@ -87,6 +369,9 @@ public class SpeechService {
         private double speed;
         private Voice voice;
         private ResponseFormat format;
+        private int parallelism;
+        private SpeechCache cache;
+        private boolean lean;
 
         // Constructor
         private Builder() {
@@ -95,6 +380,9 @@ public class SpeechService {
             speed = 1d;
             voice = CEDAR;
             format = WAV;
+            parallelism = 4;
+            cache = null;
+            lean = false;
         }
 
         // Build
@@ -106,7 +394,7 @@ public class SpeechService {
             if (!model.hasVoice(voice)) throw new IllegalArgumentException("Selected voice is not supported by the selected model");
 
             // Build and Return
-            return new SpeechService(openAI.getClient(), model, instructions, speed, voice, format);
+            return new SpeechService(openAI.getClient(), model, instructions, speed, voice, format, parallelism, cache, lean, openAI.getMetrics(), openAI.getTracer(), openAI::getExecutor, openAI.getRetryPolicy());
         }
 
         // Set Model
@@ -163,5 +451,33 @@ public class SpeechService {
             this.format = format;
             return this;
         }
+
+        // Set Parallelism for long-form Speech
+        public Builder setParallelism(int parallelism) {
+
+            // Check Parallelism
+            if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+
+            // Set Parallelism
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        // Set Cache
+        public Builder setCache(SpeechCache cache) {
+
+            // Check Cache
+            if (cache == null) throw new IllegalArgumentException("Cache must not be null");
+
+            // Set Cache
+            this.cache = cache;
+            return this;
+        }
+
+        // Set Lean, drops the SDK Request and Response after parsing
+        public Builder setLean(boolean lean) {
+            this.lean = lean;
+            return this;
+        }
     }
 }
\ No newline at end of file
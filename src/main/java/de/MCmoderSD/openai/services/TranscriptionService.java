@@ -0,0 +1,450 @@
+package de.MCmoderSD.openai.services;
+
+import com.openai.client.OpenAIClient;
+import com.openai.core.MultipartField;
+import com.openai.models.audio.transcriptions.TranscriptionCreateParams;
+
+import de.MCmoderSD.openai.core.Execution;
+import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.core.RequestContext;
+import de.MCmoderSD.openai.core.RetryPolicy;
+import de.MCmoderSD.openai.enums.Language;
+import de.MCmoderSD.openai.flow.RequestProcessor;
+import de.MCmoderSD.openai.metrics.MetricsRecorder;
+import de.MCmoderSD.openai.models.TranscriptionModel;
+import de.MCmoderSD.openai.prompts.TranscriptionPrompt;
+import de.MCmoderSD.openai.trace.Trace;
+import de.MCmoderSD.openai.trace.Tracer;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static de.MCmoderSD.openai.enums.Phase.*;
+import static de.MCmoderSD.openai.models.TranscriptionModel.GPT_4O_MINI_TRANSCRIBE;
+import static com.openai.models.audio.AudioResponseFormat.JSON;
+import static com.openai.models.audio.AudioResponseFormat.VERBOSE_JSON;
+import static com.openai.models.audio.transcriptions.TranscriptionCreateParams.TimestampGranularity.SEGMENT;
+import static com.openai.models.audio.transcriptions.TranscriptionCreateParams.TimestampGranularity.WORD;
+
+@SuppressWarnings("unused")
+public class TranscriptionService {
+
+    // Constants
+    private static final int MAX_SIZE = 26214400; // 25MB
+    private static final String NAME = "transcription";
+    private static final String DEFAULT_FILE_NAME = "audio.wav";
+
+    // Attributes
+    private final com.openai.services.blocking.audio.TranscriptionService service;
+    private final com.openai.services.async.audio.TranscriptionServiceAsync asyncService;
+    private final MetricsRecorder metrics;
+    private final Tracer tracer;
+    private final Supplier<ExecutorService> executor;
+    private final RetryPolicy retryPolicy;
+
+    // Parameters
+    private final TranscriptionModel model;
+    private final Language language;
+    private final String prompt;
+    private final double temperature;
+    private final boolean timestamps;
+    private final boolean lean;
+
+    // Constructor
+    private TranscriptionService(OpenAIClient client, TranscriptionModel model, Language language, String prompt, double temperature, boolean timestamps, boolean lean, MetricsRecorder metrics, Tracer tracer, Supplier<ExecutorService> executor, RetryPolicy retryPolicy) {
+        service = client.audio().transcriptions();
+        asyncService = client.async().audio().transcriptions();
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.executor = executor;
+        this.retryPolicy = retryPolicy;
+        this.model = model;
+        this.language = language;
+        this.prompt = prompt;
+        this.temperature = temperature;
+        this.timestamps = timestamps;
+        this.lean = lean;
+    }
+
+    // Builder
+    private TranscriptionCreateParams.Builder initParams() {
+
+        // Init Builder
+        var builder = TranscriptionCreateParams.builder();
+
+        // Set Parameters
+        builder.model(model.getName());
+        if (language != null) builder.language(language.getCode());
+        if (!prompt.isBlank()) builder.prompt(prompt);
+        builder.temperature(temperature);
+
+        // Set Timestamps
+        if (timestamps) {
+            builder.responseFormat(VERBOSE_JSON);
+            builder.addTimestampGranularity(SEGMENT);
+            builder.addTimestampGranularity(WORD);
+        } else builder.responseFormat(model.hasTimestamps() ? VERBOSE_JSON : JSON);
+
+        // Return Builder
+        return builder;
+    }
+
+    // Build with File, uploaded directly from Disk
+    private TranscriptionCreateParams buildParams(Trace trace, Path file) {
+        var mark = trace.mark();
+        var request = initParams().file(file).build();
+        trace.phase(BUILD_PARAMS, mark);
+        return request;
+    }
+
+    // Build with Stream, uploaded as Multipart Content
+    private TranscriptionCreateParams buildParams(Trace trace, InputStream stream, String fileName) {
+        var mark = trace.mark();
+        var request = initParams().file(MultipartField.<InputStream>builder().value(stream).filename(fileName).build()).build();
+        trace.phase(BUILD_PARAMS, mark);
+        return request;
+    }
+
+    // Create Transcription, the Context is optional
+    // The File Part is read once, so every Retry rebuilds the Params, a Caller Stream can't be read again and is never retried
+    private TranscriptionPrompt create(Trace trace, Supplier<TranscriptionCreateParams> params, boolean repeatable, RequestContext context) {
+
+        // Create Response
+        var start = System.nanoTime();
+        TranscriptionPrompt transcriptionPrompt;
+        try {
+            var request = new TranscriptionCreateParams[] {params.get()};
+            var attempts = new int[1];
+            var mark = trace.mark();
+            var response = (repeatable ? retryPolicy : RetryPolicy.NONE).execute(() -> {
+                if (attempts[0]++ > 0) request[0] = params.get();
+                var attempt = request[0];
+                return context == null ? service.create(attempt) : context.call(options -> asyncService.create(attempt, options));
+            }, context);
+            mark = trace.phase(NETWORK, mark);
+            transcriptionPrompt = new TranscriptionPrompt(request[0], response, lean);
+            trace.phase(PARSE, mark);
+        } catch (RuntimeException e) {
+            metrics.failure(NAME, model.getName(), System.nanoTime() - start, e);
+            trace.end(e);
+            throw e;
+        }
+
+        // Record Metrics
+        metrics.success(NAME, model.getName(), System.nanoTime() - start, 0, 0, 0, 0, cost(transcriptionPrompt));
+        trace.end(null);
+
+        // Return Transcription Prompt
+        return transcriptionPrompt;
+    }
+
+    // Stream Transcription, pushes Text Deltas to the Consumer, cancelling the Context closes the Stream
+    private TranscriptionPrompt stream(Trace trace, Supplier<TranscriptionCreateParams> params, boolean repeatable, Consumer<String> consumer, RequestContext context) {
+
+        // Read Events, Retries rebuild the Params like create
+        var start = System.nanoTime();
+        var request = new TranscriptionCreateParams[] {trace.run(params)};
+        var attempts = new int[1];
+        var mark = trace.mark();
+        try (var response = (repeatable ? retryPolicy : RetryPolicy.NONE).execute(() -> {
+            if (attempts[0]++ > 0) request[0] = params.get();
+            var attempt = request[0];
+            return context == null ? service.createStreaming(attempt) : service.createStreaming(attempt, context.options());
+        }, context); var registration = context == null ? null : context.closeOnCancel(response)) {
+            var text = new StringBuilder();
+            var done = new String[1];
+            response.stream().forEach(event -> {
+                if (event.isTranscriptTextDelta()) {
+                    var delta = event.asTranscriptTextDelta().delta();
+                    text.append(delta);
+                    consumer.accept(delta);
+                } else if (event.isTranscriptTextDone()) done[0] = event.asTranscriptTextDone().text();
+            });
+
+            // Record Metrics
+            trace.phase(NETWORK, mark);
+            var transcriptionPrompt = new TranscriptionPrompt(request[0], done[0] != null ? done[0] : text.toString());
+            metrics.success(NAME, model.getName(), System.nanoTime() - start, 0, 0, 0, 0, cost(transcriptionPrompt));
+            trace.end(null);
+
+            // Return Transcription Prompt
+            return transcriptionPrompt;
+        } catch (RuntimeException e) {
+            var failure = context != null && context.isCancelled() ? context.getCause() : e;
+            metrics.failure(NAME, model.getName(), System.nanoTime() - start, failure);
+            trace.end(failure);
+            throw failure;
+        }
+    }
+
+    // Cost from Duration, zero if the Response carries no Duration
+    private BigDecimal cost(TranscriptionPrompt transcriptionPrompt) {
+        return model.getPrice().multiply(BigDecimal.valueOf(transcriptionPrompt.getDuration() / 60));
+    }
+
+    // Create Transcription from Data
+    public TranscriptionPrompt create(byte[] data) {
+        return create(data, DEFAULT_FILE_NAME);
+    }
+
+    // Create Transcription from Data, the File Name determines the Audio Format
+    public TranscriptionPrompt create(byte[] data, String fileName) {
+        checkData(data, fileName);
+        var trace = tracer.start(NAME, model.getName());
+        return create(trace, () -> buildParams(trace, new ByteArrayInputStream(data), fileName), true, null);
+    }
+
+    // Create Transcription from Data within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public TranscriptionPrompt create(byte[] data, String fileName, RequestContext context) {
+        checkData(data, fileName);
+        checkContext(context);
+        var trace = tracer.start(NAME, model.getName());
+        return create(trace, () -> buildParams(trace, new ByteArrayInputStream(data), fileName), true, context);
+    }
+
+    // Create Transcription from Stream, the File Name determines the Audio Format
+    public TranscriptionPrompt create(InputStream stream, String fileName) {
+        checkStream(stream, fileName);
+        var trace = tracer.start(NAME, model.getName());
+        return create(trace, () -> buildParams(trace, stream, fileName), false, null);
+    }
+
+    // Create Transcription from Stream within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public TranscriptionPrompt create(InputStream stream, String fileName, RequestContext context) {
+        checkStream(stream, fileName);
+        checkContext(context);
+        var trace = tracer.start(NAME, model.getName());
+        return create(trace, () -> buildParams(trace, stream, fileName), false, context);
+    }
+
+    // Create Transcription from File
+    public TranscriptionPrompt create(File file) {
+        if (file == null) throw new IllegalArgumentException("File must not be null");
+        return create(file.toPath());
+    }
+
+    // Create Transcription from Path
+    public TranscriptionPrompt create(Path path) {
+        checkPath(path);
+        var trace = tracer.start(NAME, model.getName());
+        return create(trace, () -> buildParams(trace, path), true, null);
+    }
+
+    // Create Transcription from Path within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public TranscriptionPrompt create(Path path, RequestContext context) {
+        checkPath(path);
+        checkContext(context);
+        var trace = tracer.start(NAME, model.getName());
+        return create(trace, () -> buildParams(trace, path), true, context);
+    }
+
+    // Create Transcription from Data on the Executor
+    public CompletableFuture<TranscriptionPrompt> createAsync(byte[] data, String fileName) {
+        return Execution.submit(executor.get(), () -> create(data, fileName));
+    }
+
+    // Create Transcription from Path on the Executor
+    public CompletableFuture<TranscriptionPrompt> createAsync(Path path) {
+        return Execution.submit(executor.get(), () -> create(path));
+    }
+
+    // Create Transcriptions for each Path, Demand is capped at Max in Flight and Results arrive in Completion Order
+    public Flow.Publisher<TranscriptionPrompt> create(Flow.Publisher<Path> paths, int maxInFlight) {
+        if (paths == null) throw new IllegalArgumentException("Paths must not be null");
+        var processor = new RequestProcessor<Path, TranscriptionPrompt>(executor.get(), maxInFlight, this::create);
+        paths.subscribe(processor);
+        return processor;
+    }
+
+    // Stream Transcription from Data
+    public TranscriptionPrompt stream(byte[] data, String fileName, Consumer<String> consumer) {
+        checkData(data, fileName);
+        checkConsumer(consumer);
+        var trace = tracer.start(NAME, model.getName());
+        return stream(trace, () -> buildParams(trace, new ByteArrayInputStream(data), fileName), true, consumer, null);
+    }
+
+    // Stream Transcription from Data within the Deadline of the Context, cancelling the Context closes the Stream
+    public TranscriptionPrompt stream(byte[] data, String fileName, Consumer<String> consumer, RequestContext context) {
+        checkData(data, fileName);
+        checkConsumer(consumer);
+        checkContext(context);
+        var trace = tracer.start(NAME, model.getName());
+        return stream(trace, () -> buildParams(trace, new ByteArrayInputStream(data), fileName), true, consumer, context);
+    }
+
+    // Stream Transcription from Stream
+    public TranscriptionPrompt stream(InputStream stream, String fileName, Consumer<String> consumer) {
+        checkStream(stream, fileName);
+        checkConsumer(consumer);
+        var trace = tracer.start(NAME, model.getName());
+        return stream(trace, () -> buildParams(trace, stream, fileName), false, consumer, null);
+    }
+
+    // Stream Transcription from Stream within the Deadline of the Context, cancelling the Context closes the Stream
+    public TranscriptionPrompt stream(InputStream stream, String fileName, Consumer<String> consumer, RequestContext context) {
+        checkStream(stream, fileName);
+        checkConsumer(consumer);
+        checkContext(context);
+        var trace = tracer.start(NAME, model.getName());
+        return stream(trace, () -> buildParams(trace, stream, fileName), false, consumer, context);
+    }
+
+    // Stream Transcription from File
+    public TranscriptionPrompt stream(File file, Consumer<String> consumer) {
+        if (file == null) throw new IllegalArgumentException("File must not be null");
+        return stream(file.toPath(), consumer);
+    }
+
+    // Stream Transcription from Path
+    public TranscriptionPrompt stream(Path path, Consumer<String> consumer) {
+        checkPath(path);
+        checkConsumer(consumer);
+        var trace = tracer.start(NAME, model.getName());
+        return stream(trace, () -> buildParams(trace, path), true, consumer, null);
+    }
+
+    // Stream Transcription from Path within the Deadline of the Context, cancelling the Context closes the Stream
+    public TranscriptionPrompt stream(Path path, Consumer<String> consumer, RequestContext context) {
+        checkPath(path);
+        checkConsumer(consumer);
+        checkContext(context);
+        var trace = tracer.start(NAME, model.getName());
+        return stream(trace, () -> buildParams(trace, path), true, consumer, context);
+    }
+
+    // Check Methods
+    private static void checkData(byte[] data, String fileName) {
+        if (data == null) throw new IllegalArgumentException("Data must not be null");
+        if (data.length == 0) throw new IllegalArgumentException("Data must not be empty");
+        if (data.length > MAX_SIZE) throw new IllegalArgumentException("Data must not exceed 25MB");
+        if (fileName == null || fileName.isBlank()) throw new IllegalArgumentException("File name must not be null or blank");
+    }
+
+    private static void checkStream(InputStream stream, String fileName) {
+        if (stream == null) throw new IllegalArgumentException("Stream must not be null");
+        if (fileName == null || fileName.isBlank()) throw new IllegalArgumentException("File name must not be null or blank");
+    }
+
+    private static void checkPath(Path path) {
+        if (path == null) throw new IllegalArgumentException("Path must not be null");
+        if (!Files.exists(path)) throw new IllegalArgumentException("File must exist");
+        if (!Files.isRegularFile(path)) throw new IllegalArgumentException("File must be a file");
+        if (!Files.isReadable(path)) throw new IllegalArgumentException("File must be readable");
+        var size = path.toFile().length();
+        if (size == 0) throw new IllegalArgumentException("File must not be empty");
+        if (size > MAX_SIZE) throw new IllegalArgumentException("File must not exceed 25MB");
+    }
+
+    private void checkConsumer(Consumer<String> consumer) {
+        if (!model.hasStreaming()) throw new IllegalArgumentException("Streaming is not supported by the selected model");
+        if (consumer == null) throw new IllegalArgumentException("Consumer must not be null");
+    }
+
+    private static void checkContext(RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+    }
+
+    // Static Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Builder Class
+    public static class Builder {
+
+        // Parameter
+        private TranscriptionModel model;
+        private Language language;
+        private String prompt;
+        private double temperature;
+        private boolean timestamps;
+        private boolean lean;
+
+        // Constructor
+        private Builder() {
+            model = GPT_4O_MINI_TRANSCRIBE;
+            language = null;
+            prompt = "";
+            temperature = 0d;
+            timestamps = false;
+            lean = false;
+        }
+
+        // Build
+        public TranscriptionService build(OpenAI openAI) {
+
+            // Check OpenAI
+            if (openAI == null) throw new IllegalArgumentException("OpenAI must not be null");
+            if (timestamps && !model.hasTimestamps()) throw new IllegalArgumentException("Timestamps are not supported by the selected model");
+
+            // Build and Return
+            return new TranscriptionService(openAI.getClient(), model, language, prompt, temperature, timestamps, lean, openAI.getMetrics(), openAI.getTracer(), openAI::getExecutor, openAI.getRetryPolicy());
+        }
+
+        // Set Model
+        public Builder setModel(TranscriptionModel model) {
+
+            // Check Model
+            if (model == null) throw new IllegalArgumentException("Model must not be null");
+
+            // Set Model
+            this.model = model;
+            return this;
+        }
+
+        // Set Language Hint
+        public Builder setLanguage(Language language) {
+
+            // Check Language
+            if (language == null) throw new IllegalArgumentException("Language must not be null");
+
+            // Set Language
+            this.language = language;
+            return this;
+        }
+
+        // Set Prompt
+        public Builder setPrompt(String prompt) {
+
+            // Check Prompt
+            if (prompt == null) throw new IllegalArgumentException("Prompt must not be null");
+
+            // Set Prompt
+            this.prompt = prompt;
+            return this;
+        }
+
+        // Set Temperature
+        public Builder setTemperature(double temperature) {
+
+            // Check Temperature
+            if (temperature < 0 || temperature > 1) throw new IllegalArgumentException("Temperature must be between 0 and 1");
+
+            // Set Temperature
+            this.temperature = temperature;
+            return this;
+        }
+
+        // Set Word and Segment Timestamps
+        public Builder setTimestamps(boolean timestamps) {
+            this.timestamps = timestamps;
+            return this;
+        }
+
+        // Set Lean, drops the SDK Request and Response after parsing
+        public Builder setLean(boolean lean) {
+            this.lean = lean;
+            return this;
+        }
+    }
+}
\ No newline at end of file
@@ -1,73 +1,94 @@
 package de.MCmoderSD.openai.services;
 
 import com.openai.client.OpenAIClient;
+import com.openai.core.MultipartField;
 import com.openai.models.audio.translations.TranslationCreateParams;
 
+import de.MCmoderSD.openai.core.Execution;
 import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.core.RequestContext;
+import de.MCmoderSD.openai.core.RetryPolicy;
+import de.MCmoderSD.openai.flow.RequestProcessor;
+import de.MCmoderSD.openai.metrics.MetricsRecorder;
 import de.MCmoderSD.openai.models.TranslationModel;
+import de.MCmoderSD.openai.objects.Segment;
+import de.MCmoderSD.openai.objects.Wave;
 import de.MCmoderSD.openai.prompts.TranslationPrompt;
+import de.MCmoderSD.openai.trace.Trace;
+import de.MCmoderSD.openai.trace.Tracer;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.util.UUID;
-
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static de.MCmoderSD.openai.enums.Phase.*;
 import static de.MCmoderSD.openai.models.TranslationModel.WHISPER_1;
 import static com.openai.models.audio.translations.TranslationCreateParams.ResponseFormat.VERBOSE_JSON;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
 
 public class TranslationService {
 
     // Constants
+    private static final String NAME = "translation";
     private static final int MAX_SIZE = 26214400; // 25MB
-    private static final File TEMP_DIR = new File(System.getProperty("java.io.tmpdir"));
+    private static final String DEFAULT_FILE_NAME = "audio.wav";
+    private static final int HEADER_SIZE = 1024;
+    private static final double FRAME = 0.02; // 20ms
+    private static final double SEARCH = 10; // 10s
 
     // Attributes
     private final com.openai.services.blocking.audio.TranslationService service;
+    private final com.openai.services.async.audio.TranslationServiceAsync asyncService;
+    private final MetricsRecorder metrics;
+    private final Tracer tracer;
+    private final Supplier<ExecutorService> executor;
+    private final RetryPolicy retryPolicy;
 
     // Parameters
     private final TranslationModel model;
     private final String prompt;
     private final double temperature;
+    private final Duration window;
+    private final Duration overlap;
+    private final int parallelism;
+    private final boolean lean;
 
     // Constructor
-    private TranslationService(OpenAIClient client, TranslationModel model, String prompt, double temperature) {
+    private TranslationService(OpenAIClient client, TranslationModel model, String prompt, double temperature, Duration window, Duration overlap, int parallelism, boolean lean, MetricsRecorder metrics, Tracer tracer, Supplier<ExecutorService> executor, RetryPolicy retryPolicy) {
         service = client.audio().translations();
+        asyncService = client.async().audio().translations();
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.executor = executor;
+        this.retryPolicy = retryPolicy;
         this.model = model;
         this.prompt = prompt;
         this.temperature = temperature;
-    }
-
-    // Create Temp File from Data
-    private static File createTempFile(byte[] data) {
-
-        // Create Temp File
-        var tempFile = new File(TEMP_DIR, UUID.randomUUID() + ".wav");
-
-        // Write Data to Temp File
-        try (var bos = new BufferedOutputStream(new FileOutputStream(tempFile))) {
-            bos.write(data);            // Write Data
-            bos.flush();                // Flush Stream
-            tempFile.deleteOnExit();    // Delete Temp File on Exit
-            return tempFile;            // Return Temp File
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create temp file: " + e.getMessage(), e);
-        }
-    }
-
-    // Create Temp File from File
-    private static File createTempFile(File file) {
-        try (var bis = new BufferedInputStream(new FileInputStream(file))) {
-            return createTempFile(bis.readAllBytes());
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create temp file: " + e.getMessage(), e);
-        }
+        this.window = window;
+        this.overlap = overlap;
+        this.parallelism = parallelism;
+        this.lean = lean;
     }
 
     // Builder
-    private TranslationCreateParams buildParams(File file) {
+    private TranslationCreateParams.Builder initParams() {
 
         // Init Builder
         var builder = TranslationCreateParams.builder();
@@ -77,61 +98,330 @@ public class TranslationService {
         if (!prompt.isBlank()) builder.prompt(prompt);
         builder.temperature(temperature);
         builder.responseFormat(VERBOSE_JSON);
-        builder.file(file.toPath());
 
-        // Build and Return
-        return builder.build();
+        // Return Builder
+        return builder;
+    }
+
+    // Build with File, uploaded directly from Disk
+    private TranslationCreateParams buildParams(Trace trace, Path file) {
+        var mark = trace.mark();
+        var request = initParams().file(file).build();
+        trace.phase(BUILD_PARAMS, mark);
+        return request;
+    }
+
+    // Build with Stream, uploaded as Multipart Content
+    private TranslationCreateParams buildParams(Trace trace, InputStream stream, String fileName) {
+        var mark = trace.mark();
+        var request = initParams().file(MultipartField.<InputStream>builder().value(stream).filename(fileName).build()).build();
+        trace.phase(BUILD_PARAMS, mark);
+        return request;
+    }
+
+    // Execute Request and record Metrics, the File Part is read once, so every Retry rebuilds the Params
+    // A Caller Stream can't be read again and is never retried
+    private TranslationPrompt execute(Trace trace, Supplier<TranslationCreateParams> params, boolean repeatable, RequestContext context) {
+        var start = System.nanoTime();
+        TranslationPrompt translationPrompt;
+        try {
+            var request = new TranslationCreateParams[] {params.get()};
+            var attempts = new int[1];
+            var mark = trace.mark();
+            var response = (repeatable ? retryPolicy : RetryPolicy.NONE).execute(() -> {
+                if (attempts[0]++ > 0) request[0] = params.get();
+                var attempt = request[0];
+                return context == null ? service.create(attempt) : context.call(options -> asyncService.create(attempt, options));
+            }, context);
+            mark = trace.phase(NETWORK, mark);
+            translationPrompt = new TranslationPrompt(request[0], response, lean);
+            trace.phase(PARSE, mark);
+        } catch (RuntimeException e) {
+            metrics.failure(NAME, model.getName(), System.nanoTime() - start, e);
+            trace.end(e);
+            throw e;
+        }
+
+        // Record Metrics
+        var minutes = BigDecimal.valueOf(translationPrompt.getDuration() / 60);
+        metrics.success(NAME, model.getName(), System.nanoTime() - start, 0, 0, 0, 0, model.getPrice().multiply(minutes));
+        trace.end(null);
+
+        // Return Translation Prompt
+        return translationPrompt;
     }
 
-    // Create Speech
+    // Create Translation from Data
     public TranslationPrompt create(byte[] data) {
+        return create(data, DEFAULT_FILE_NAME);
+    }
+
+    // Create Translation from Data, the File Name determines the Audio Format
+    public TranslationPrompt create(byte[] data, String fileName) {
+        return execute(data, fileName, null);
+    }
+
+    // Create Translation from Data within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public TranslationPrompt create(byte[] data, String fileName, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return execute(data, fileName, context);
+    }
+
+    // Create Translation from Data, the Context is optional
+    private TranslationPrompt execute(byte[] data, String fileName, RequestContext context) {
 
         // Check Data
         if (data == null) throw new IllegalArgumentException("Data must not be null");
         if (data.length == 0) throw new IllegalArgumentException("Data must not be empty");
         if (data.length > MAX_SIZE) throw new IllegalArgumentException("Data must not exceed 25MB");
-
-        // Create Temp File
-        var tempFile = createTempFile(data);
+        if (fileName == null || fileName.isBlank()) throw new IllegalArgumentException("File name must not be null or blank");
 
         // Build Request
-        var request = buildParams(tempFile);
+        var trace = tracer.start(NAME, model.getName());
+        Supplier<TranslationCreateParams> params = () -> buildParams(trace, new ByteArrayInputStream(data), fileName);
+
+        // Create Translation
+        return execute(trace, params, true, context);
+    }
 
-        // Create Response
-        var response = service.create(request);
+    // Create Translation from Stream, the File Name determines the Audio Format
+    public TranslationPrompt create(InputStream stream, String fileName) {
+        return execute(stream, fileName, null);
+    }
 
-        // Delete Temp File
-        if (!tempFile.delete()) throw new RuntimeException("Failed to delete temp file: " + tempFile.getAbsolutePath());
+    // Create Translation from Stream within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public TranslationPrompt create(InputStream stream, String fileName, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return execute(stream, fileName, context);
+    }
 
-        // Return Translation Prompt
-        return new TranslationPrompt(request, response);
+    // Create Translation from Stream, the Context is optional
+    private TranslationPrompt execute(InputStream stream, String fileName, RequestContext context) {
+
+        // Check Stream
+        if (stream == null) throw new IllegalArgumentException("Stream must not be null");
+        if (fileName == null || fileName.isBlank()) throw new IllegalArgumentException("File name must not be null or blank");
+
+        // Build Request
+        var trace = tracer.start(NAME, model.getName());
+        Supplier<TranslationCreateParams> params = () -> buildParams(trace, stream, fileName);
+
+        // Create Translation
+        return execute(trace, params, false, context);
     }
 
-    // Create Speech
+    // Create Translation from File
     public TranslationPrompt create(File file) {
 
         // Check File
         if (file == null) throw new IllegalArgumentException("File must not be null");
-        if (!file.isFile()) throw new IllegalArgumentException("File must be a file");
-        if (!file.exists()) throw new IllegalArgumentException("File must exist");
-        if (!file.canRead()) throw new IllegalArgumentException("File must be readable");
-        if (file.length() == 0) throw new IllegalArgumentException("File must not be empty");
-        if (file.length() > MAX_SIZE) throw new IllegalArgumentException("File must not exceed 25MB");
 
-        // Create Temp File
-        var tempFile = createTempFile(file);
+        // Create Translation
+        return create(file.toPath());
+    }
+
+    // Create Translation from Path
+    public TranslationPrompt create(Path path) {
+        return execute(path, null);
+    }
+
+    // Create Translation from Path within the Deadline of the Context, cancelling the Context aborts the HTTP Call
+    public TranslationPrompt create(Path path, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return execute(path, context);
+    }
+
+    // Create Translation from Path, the Context is optional
+    private TranslationPrompt execute(Path path, RequestContext context) {
+
+        // Check Path
+        checkPath(path);
 
         // Build Request
-        var request = buildParams(tempFile);
+        var trace = tracer.start(NAME, model.getName());
+        Supplier<TranslationCreateParams> params = () -> buildParams(trace, path);
 
-        // Create Response
-        var response = service.create(request);
+        // Create Translation
+        return execute(trace, params, true, context);
+    }
 
-        // Delete Temp File
-        if (!tempFile.delete()) throw new RuntimeException("Failed to delete temp file: " + tempFile.getAbsolutePath());
+    // Create Translation from Data on the Executor
+    public CompletableFuture<TranslationPrompt> createAsync(byte[] data, String fileName) {
+        return Execution.submit(executor.get(), () -> create(data, fileName));
+    }
 
-        // Return Translation Prompt
-        return new TranslationPrompt(request, response);
+    // Create Translation from Path on the Executor
+    public CompletableFuture<TranslationPrompt> createAsync(Path path) {
+        return Execution.submit(executor.get(), () -> create(path));
+    }
+
+    // Create Translations for each Path, Demand is capped at Max in Flight and Results arrive in Completion Order
+    public Flow.Publisher<TranslationPrompt> create(Flow.Publisher<Path> paths, int maxInFlight) {
+        if (paths == null) throw new IllegalArgumentException("Paths must not be null");
+        var processor = new RequestProcessor<Path, TranslationPrompt>(executor.get(), maxInFlight, this::create);
+        paths.subscribe(processor);
+        return processor;
+    }
+
+    // Create Translation from long Audio, split into Chunks and translated in parallel
+    public TranslationPrompt createLong(File file) {
+
+        // Check File
+        if (file == null) throw new IllegalArgumentException("File must not be null");
+
+        // Create Translation
+        return createLong(file.toPath());
+    }
+
+    // Create Translation from long Audio, split into Chunks and translated in parallel
+    public TranslationPrompt createLong(Path path) {
+        return executeLong(path, null);
+    }
+
+    // Create Translation from long Audio within the Deadline of the Context, cancelling the Context aborts every Chunk
+    public TranslationPrompt createLong(Path path, RequestContext context) {
+        if (context == null) throw new IllegalArgumentException("Context must not be null");
+        return executeLong(path, context);
+    }
+
+    // Create Translation from long Audio, the Context is optional
+    private TranslationPrompt executeLong(Path path, RequestContext context) {
+
+        // Check Path
+        if (path == null) throw new IllegalArgumentException("Path must not be null");
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) throw new IllegalArgumentException("File must be a readable file");
+
+        // Small Files are uploaded directly
+        var size = path.toFile().length();
+        if (size <= MAX_SIZE) return execute(path, context);
+        if (!path.getFileName().toString().toLowerCase().endsWith(".wav")) throw new IllegalArgumentException("Audio exceeding 25MB must be a WAV file");
+
+        // Map File
+        var trace = tracer.start(NAME, model.getName());
+        try (var channel = FileChannel.open(path, READ)) {
+            var mark = trace.mark();
+            var wave = Wave.parse(channel.map(READ_ONLY, 0, channel.size()));
+            trace.phase(FILE_IO, mark);
+            var translationPrompt = createLong(wave, context);
+            trace.end(null);
+            return translationPrompt;
+        } catch (IOException e) {
+            trace.end(e);
+            throw new RuntimeException("Failed to read audio file: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            trace.end(e);
+            throw e;
+        }
+    }
+
+    // Create Translation from long WAV Audio
+    private TranslationPrompt createLong(Wave wave, RequestContext context) {
+
+        // Calculate Sizes
+        var data = wave.getData();
+        var total = data.remaining();
+        var align = wave.getBlockAlign();
+        var byteRate = (double) wave.getByteRate();
+        var windowBytes = align(Math.min(window.toMillis() / 1000d * byteRate, MAX_SIZE - HEADER_SIZE), align);
+        var overlapBytes = align(overlap.toMillis() / 1000d * byteRate, align);
+        var searchBytes = align(Math.min(SEARCH * byteRate, windowBytes / 10d), align);
+        if (overlapBytes * 2 >= windowBytes) throw new IllegalArgumentException("Overlap must be less than half of the window");
+
+        // Find Cuts at Silence Boundaries
+        var cuts = new ArrayList<Integer>();
+        cuts.add(0);
+        while (true) {
+            var start = Math.max(0, cuts.getLast() - overlapBytes);
+            var end = start + windowBytes;
+            if (end >= total) break;
+            cuts.add(silence(wave, data, end - searchBytes, end));
+        }
+        cuts.add(total);
+
+        // Translate Chunks with bounded Parallelism
+        var chunks = cuts.size() - 1;
+        var results = new ArrayList<TranslationPrompt>(chunks);
+        try (var pool = Executors.newFixedThreadPool(Math.min(parallelism, chunks), Thread.ofVirtual().factory())) {
+            var futures = new ArrayList<Future<TranslationPrompt>>(chunks);
+            try {
+                for (var i = 0; i < chunks; i++) {
+                    var start = Math.max(0, cuts.get(i) - overlapBytes);
+                    var end = cuts.get(i + 1);
+                    futures.add(pool.submit(() -> execute(wave.slice(start, end - start), DEFAULT_FILE_NAME, context)));
+                }
+                for (var future : futures) results.add(future.get());
+            } finally {
+
+                // Fail fast, outstanding Chunks are cancelled before closing the Pool waits for them
+                for (var future : futures) future.cancel(true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while translating long audio", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to translate long audio: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        // Merge Segments, each Chunk owns the Audio between its Cuts
+        var segments = new ArrayList<Segment>();
+        var text = new StringBuilder();
+        for (var i = 0; i < chunks; i++) {
+            var offset = Math.max(0, cuts.get(i) - overlapBytes) / byteRate;
+            var from = cuts.get(i) / byteRate;
+            var to = cuts.get(i + 1) / byteRate;
+            var columns = results.get(i).getColumns();
+            for (var j = 0; j < columns.size(); j++) {
+                var middle = offset + (columns.getStart(j) + columns.getEnd(j)) / 2;
+                if (middle < from || middle >= to) continue;
+                segments.add(columns.get(j).shift(segments.size(), offset));
+                if (!text.isEmpty()) text.append(' ');
+                text.append(columns.getText(j).strip());
+            }
+        }
+
+        // Return merged Translation Prompt
+        return new TranslationPrompt(total / byteRate, results.getFirst().getLanguage(), text.toString(), segments);
+    }
+
+    // Find the quietest Frame before the Window End, falls back to a fixed Window for non 16-bit Audio
+    private static int silence(Wave wave, ByteBuffer data, int from, int to) {
+
+        // Check Format
+        if (wave.getBitsPerSample() != 16) return to;
+
+        // Find quietest Frame
+        var align = wave.getBlockAlign();
+        var frame = align(FRAME * wave.getByteRate(), align);
+        var cut = to;
+        var minimum = Double.MAX_VALUE;
+        for (var position = from; position + frame <= to; position += frame) {
+            var energy = 0d;
+            for (var i = position; i < position + frame; i += 2) {
+                double sample = data.getShort(i);
+                energy += sample * sample;
+            }
+            if (energy < minimum) {
+                minimum = energy;
+                cut = position + align(frame / 2d, align);
+            }
+        }
+        return cut;
+    }
+
+    // Align Bytes to the Block Size
+    private static int align(double bytes, int align) {
+        return Math.max(align, (int) (bytes / align) * align);
+    }
+
+    // Check Path
+    private static void checkPath(Path path) {
+        if (path == null) throw new IllegalArgumentException("Path must not be null");
+        if (!Files.exists(path)) throw new IllegalArgumentException("File must exist");
+        if (!Files.isRegularFile(path)) throw new IllegalArgumentException("File must be a file");
+        if (!Files.isReadable(path)) throw new IllegalArgumentException("File must be readable");
+        var size = path.toFile().length();
+        if (size == 0) throw new IllegalArgumentException("File must not be empty");
+        if (size > MAX_SIZE) throw new IllegalArgumentException("File must not exceed 25MB");
     }
 
     // Static Builder
@@ -146,12 +436,20 @@ public class TranslationService {
         private TranslationModel model;
         private String prompt;
         private double temperature;
+        private Duration window;
+        private Duration overlap;
+        private int parallelism;
+        private boolean lean;
 
         // Constructor
         private Builder() {
             model = WHISPER_1;
             prompt = "";
             temperature = 1d;
+            window = Duration.ofMinutes(10);
+            overlap = Duration.ofSeconds(2);
+            parallelism = 4;
+            lean = false;
         }
 
         // Build
@@ -161,7 +459,7 @@ public class TranslationService {
             if (openAI == null) throw new IllegalArgumentException("OpenAI must not be null");
 
             // Build and Return
-            return new TranslationService(openAI.getClient(), model, prompt, temperature);
+            return new TranslationService(openAI.getClient(), model, prompt, temperature, window, overlap, parallelism, lean, openAI.getMetrics(), openAI.getTracer(), openAI::getExecutor, openAI.getRetryPolicy());
         }
 
         // Set Model
@@ -196,5 +494,44 @@ public class TranslationService {
             this.temperature = temperature;
             return this;
         }
+
+        // Set Window for long Audio, capped to the 25MB Upload Limit
+        public Builder setWindow(Duration window) {
+
+            // Check Window
+            if (window == null || window.toSeconds() < 10) throw new IllegalArgumentException("Window must be at least 10 seconds");
+
+            // Set Window
+            this.window = window;
+            return this;
+        }
+
+        // Set Overlap between Chunks of long Audio
+        public Builder setOverlap(Duration overlap) {
+
+            // Check Overlap
+            if (overlap == null || overlap.isNegative()) throw new IllegalArgumentException("Overlap must not be null or negative");
+
+            // Set Overlap
+            this.overlap = overlap;
+            return this;
+        }
+
+        // Set Parallelism for long Audio
+        public Builder setParallelism(int parallelism) {
+
+            // Check Parallelism
+            if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+
+            // Set Parallelism
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        // Set Lean, drops the SDK Request and Response after parsing
+        public Builder setLean(boolean lean) {
+            this.lean = lean;
+            return this;
+        }
     }
 }
\ No newline at end of file
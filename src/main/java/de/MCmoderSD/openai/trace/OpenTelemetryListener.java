@@ -0,0 +1,80 @@
+package de.MCmoderSD.openai.trace;
+
+import de.MCmoderSD.openai.enums.Phase;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("unused")
+public class OpenTelemetryListener implements RequestListener {
+
+    // Constants
+    private static final String SPAN = "openai.span";
+
+    // Attributes
+    private final io.opentelemetry.api.trace.Tracer tracer;
+
+    // Constructor
+    public OpenTelemetryListener(io.opentelemetry.api.trace.Tracer tracer) {
+
+        // Check Tracer
+        if (tracer == null) throw new IllegalArgumentException("Tracer must not be null");
+
+        // Set Attributes
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void onStart(Trace trace) {
+        var span = tracer.spanBuilder("openai." + trace.getService())
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("openai.service", trace.getService())
+                .setAttribute("openai.model", trace.getModel())
+                .setAttribute("openai.trace_id", trace.getId())
+                .startSpan();
+        trace.setAttribute(SPAN, span);
+    }
+
+    @Override
+    public void onPhase(Trace trace, Phase phase, long nanos) {
+
+        // Get Parent
+        if (!(trace.getAttribute(SPAN) instanceof Span parent)) return;
+
+        // Emit Child Span with exact Timestamps
+        var end = epochNanos();
+        tracer.spanBuilder(phase.name().toLowerCase(Locale.ROOT))
+                .setParent(Context.current().with(parent))
+                .setStartTimestamp(end - nanos, TimeUnit.NANOSECONDS)
+                .startSpan()
+                .end(end, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onEnd(Trace trace, long nanos, Throwable error) {
+
+        // Get Span
+        if (!(trace.getAttribute(SPAN) instanceof Span span)) return;
+
+        // Set Status
+        if (error != null) {
+            span.recordException(error);
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        // End Span
+        span.end();
+    }
+
+    // Current Epoch in Nanoseconds
+    private static long epochNanos() {
+        var now = Instant.now();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+}
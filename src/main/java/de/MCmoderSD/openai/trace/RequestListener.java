@@ -0,0 +1,18 @@
+package de.MCmoderSD.openai.trace;
+
+import de.MCmoderSD.openai.enums.Phase;
+
+@SuppressWarnings("unused")
+public interface RequestListener {
+
+    // Request started
+    default void onStart(Trace trace) {
+    }
+
+    // Phase finished, Duration in Nanoseconds
+    void onPhase(Trace trace, Phase phase, long nanos);
+
+    // Request finished, Error is null on Success
+    default void onEnd(Trace trace, long nanos, Throwable error) {
+    }
+}
@@ -0,0 +1,127 @@
+package de.MCmoderSD.openai.trace;
+
+import de.MCmoderSD.openai.enums.Phase;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@SuppressWarnings("unused")
+public class Trace {
+
+    // Constants
+    static final Trace NOOP = new Trace(new RequestListener[0], new LongAdder(), 0, "", "");
+
+    // Attributes
+    private final RequestListener[] listeners;
+    private final LongAdder errors;
+    private final long id;
+    private final String service;
+    private final String model;
+
+    // Variables
+    private long startedAt;
+    private HashMap<String, Object> attributes;
+
+    // Constructor
+    Trace(RequestListener[] listeners, LongAdder errors, long id, String service, String model) {
+        this.listeners = listeners;
+        this.errors = errors;
+        this.id = id;
+        this.service = service;
+        this.model = model;
+    }
+
+    // Notify Start, Listeners run on the Request Path, their Failures are counted and never reach the Caller
+    void start() {
+        startedAt = System.nanoTime();
+        for (var listener : listeners) {
+            try {
+                listener.onStart(this);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+        }
+    }
+
+    // Current Time, 0 if disabled
+    public long mark() {
+        return listeners.length == 0 ? 0 : System.nanoTime();
+    }
+
+    // Finish Phase started at Mark, returns the Mark for the next Phase
+    public long phase(Phase phase, long mark) {
+        if (listeners.length == 0) return 0;
+        var now = System.nanoTime();
+        for (var listener : listeners) {
+            try {
+                listener.onPhase(this, phase, now - mark);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+        }
+        return now;
+    }
+
+    // Run Step, a Failure ends the Trace so it doesn't stay open
+    public <T> T run(Supplier<T> step) {
+        try {
+            return step.get();
+        } catch (RuntimeException e) {
+            end(e);
+            throw e;
+        }
+    }
+
+    // Run Step as Phase, a Failure ends the Trace
+    public <T> T phase(Phase phase, Supplier<T> step) {
+        var mark = mark();
+        var result = run(step);
+        phase(phase, mark);
+        return result;
+    }
+
+    // Finish Trace, Error is null on Success
+    public void end(Throwable error) {
+        if (listeners.length == 0) return;
+        var nanos = System.nanoTime() - startedAt;
+        for (var listener : listeners) {
+            try {
+                listener.onEnd(this, nanos, error);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+        }
+    }
+
+    // Attributes for Listener State
+    public synchronized void setAttribute(String key, Object value) {
+        if (attributes == null) attributes = new HashMap<>();
+        attributes.put(key, value);
+    }
+
+    public synchronized Object getAttribute(String key) {
+        return attributes == null ? null : attributes.get(key);
+    }
+
+    // Getter
+    public boolean isEnabled() {
+        return listeners.length > 0;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+}
@@ -0,0 +1,49 @@
+package de.MCmoderSD.openai.trace;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("unused")
+public class Tracer {
+
+    // Attributes
+    private final CopyOnWriteArrayList<RequestListener> listeners;
+    private final AtomicLong ids;
+    private final LongAdder errors;
+
+    // Constructor
+    public Tracer() {
+        listeners = new CopyOnWriteArrayList<>();
+        ids = new AtomicLong();
+        errors = new LongAdder();
+    }
+
+    // Start Trace, a no-op Trace if no Listener is registered
+    public Trace start(String service, String model) {
+        if (listeners.isEmpty()) return Trace.NOOP;
+        var trace = new Trace(listeners.toArray(RequestListener[]::new), errors, ids.incrementAndGet(), service, model);
+        trace.start();
+        return trace;
+    }
+
+    // Add Listener
+    public void addListener(RequestListener listener) {
+        if (listener == null) throw new IllegalArgumentException("Listener must not be null");
+        listeners.add(listener);
+    }
+
+    // Remove Listener
+    public void removeListener(RequestListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Getter
+    public boolean isEnabled() {
+        return !listeners.isEmpty();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,28 @@
+import de.MCmoderSD.openai.core.OpenAI;
+import de.MCmoderSD.openai.services.TranscriptionService;
+
+import static de.MCmoderSD.openai.models.TranscriptionModel.*;
+import static de.MCmoderSD.openai.enums.Language.*;
+import static java.lang.IO.*;
+
+void main() {
+
+    // Initialize OpenAI
+    var openAI = new OpenAI("sk-proj-"); // Replace with your actual API key
+
+    // Configure Service
+    var service = TranscriptionService.builder()
+            .setModel(GPT_4O_MINI_TRANSCRIBE)   // Model (required)
+            .setLanguage(ENGLISH)               // Language Hint (optional)
+            .setTemperature(0.0)                // Temperature (optional, default: 0.0)
+            .build(openAI);
+
+    // Input File
+    var input = new File("output.wav"); // Supported file formats: flac, mp3, mp4, mpeg, mpga, m4a, ogg, wav, webm
+
+    // Stream Transcription
+    var response = service.stream(input, delta -> print(delta));
+
+    // Print Transcription
+    println("\n\n" + response.getText());
+}